@@ -0,0 +1,60 @@
+package com.scrapper.benchmark;
+
+import com.scrapper.JobScraperApp;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * База для бенчмарків, яким потрібен весь додаток: Postgres у Testcontainers або готова база
+ * (jdbcUrl не порожній). Схему застосовує Liquibase при старті контексту.
+ */
+public record BenchmarkDatabase(String jdbcUrl, String username, String password) {
+
+    /**
+     * Виконує body з готовою базою або з контейнером image, який зупиняється після body
+     */
+    public static <T> T use(String image, BenchmarkDatabase configured, Function<BenchmarkDatabase, T> body) {
+        if (!configured.jdbcUrl().isBlank()) {
+            return body.apply(configured);
+        }
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse(image).asCompatibleSubstituteFor("postgres"))) {
+            postgres.start();
+            return body.apply(new BenchmarkDatabase(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword()));
+        }
+    }
+
+    /**
+     * Піднімає додаток на цій базі без SQL логів та планувальника
+     *
+     * @param overrides додаткові властивості (мають пріоритет над application.properties)
+     */
+    public ConfigurableApplicationContext startApp(WebApplicationType type, Map<String, Object> overrides,
+                                                   String... profiles) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", username);
+        properties.put("spring.datasource.password", password);
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("scraping.scheduler.enabled", "false");
+        properties.put("http.headers.user-agent", "benchmark");
+        properties.putAll(overrides);
+        // Аргументи командного рядка мають пріоритет над application.properties
+        return new SpringApplicationBuilder(JobScraperApp.class)
+            .web(type)
+            .profiles(profiles)
+            .run(properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new));
+    }
+}
@@ -0,0 +1,96 @@
+package com.scrapper.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Порівнює два JSON результати JMH (-rf json): для кожного бенчмарку з однаковими параметрами
+ * виводить обидва значення, зміну у відсотках та позначку, якщо різниця більша за похибку обох вимірів.
+ * Запуск: mvn -Pbenchmark test-compile exec:exec@jmh-diff -Djmh.base=old.json -Djmh.result=new.json
+ */
+public final class BenchmarkDiff {
+
+    private static final String ROW_FORMAT = "%-60s %18s %18s %9s  %s%n";
+
+    private record Score(String mode, double score, double error, String unit) {
+    }
+
+    private BenchmarkDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkDiff <base.json> <current.json>");
+            System.exit(2);
+        }
+        Map<String, Score> base = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+
+        System.out.printf(ROW_FORMAT, "Benchmark", "Base", "Current", "Change", "");
+        Map<String, Score> all = new TreeMap<>(base);
+        current.forEach(all::putIfAbsent);
+        all.keySet().forEach(name -> {
+            Score before = base.get(name);
+            Score after = current.get(name);
+            if (before == null || after == null) {
+                System.out.printf(ROW_FORMAT, name, format(before), format(after), "",
+                    before == null ? "new" : "removed");
+                return;
+            }
+            double change = (after.score() - before.score()) / before.score() * 100;
+            System.out.printf(ROW_FORMAT, name, format(before), format(after),
+                String.format("%+.1f%%", change), verdict(before, after));
+        });
+    }
+
+    private static String verdict(Score before, Score after) {
+        if (Math.abs(after.score() - before.score()) <= before.error() + after.error()) {
+            return "";
+        }
+        // Для thrpt більше - краще, для avgt/sample/ss - менше
+        boolean higherIsBetter = after.mode().equals("thrpt");
+        boolean improved = higherIsBetter == after.score() > before.score();
+        return improved ? "faster" : "SLOWER";
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        if (!file.isFile()) {
+            throw new IOException("JMH result not found: " + file);
+        }
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder name = new StringBuilder(shortName(run.path("benchmark").asText()));
+            JsonNode params = run.path("params");
+            if (params.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    name.append(name.indexOf(":") < 0 ? ":" : ",")
+                        .append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(name.toString(), new Score(run.path("mode").asText(), metric.path("score").asDouble(),
+                Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private static String shortName(String benchmark) {
+        return benchmark.startsWith("com.scrapper.benchmark.")
+            ? benchmark.substring("com.scrapper.benchmark.".length())
+            : benchmark;
+    }
+
+    private static String format(Score score) {
+        return score == null ? "-" : String.format("%.3f %s", score.score(), score.unit());
+    }
+}
@@ -0,0 +1,108 @@
+package com.scrapper.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrapper.service.extraction.ExtractionPlan;
+import com.scrapper.service.extraction.ExtractionSpec;
+import com.scrapper.util.EpochDateParser;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Фікстури бенчмарків: записана сторінка списку вакансій Techstars, план екстракції з
+ * робочої специфікації та корпус дат. Все читається з classpath (src/jmh/resources; корпус дат -
+ * src/test/resources, його ж перевіряє EpochDateParserTest).
+ */
+public final class BenchmarkFixtures {
+
+    public static final String LISTING = "/fixtures/techstars-listing.html";
+    public static final String DATE_CORPUS = "/fixtures/dates.tsv";
+    public static final String EXTRACTION_SPEC = "/extraction/job-card-spec.json";
+
+    /**
+     * "Зараз" для відносних дат корпусу: 2025-08-15T12:00:00Z
+     */
+    public static final long CORPUS_NOW = Instant.parse("2025-08-15T12:00:00Z").getEpochSecond();
+
+    // Картки та кандидати так само, як їх бачить скрапер
+    private static final String CARD_SELECTOR = "[data-testid=job-card]";
+    private static final String CANDIDATE_SELECTOR = "#board > *";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Рядок корпусу дат: expected = EpochDateParser.UNPARSED для рядків, що не мають розпізнаватися
+     */
+    public record DateCase(String input, long expected) {
+    }
+
+    public static String listingHtml() {
+        return read(LISTING);
+    }
+
+    public static Document listing() {
+        return Jsoup.parse(listingHtml(), "https://jobs.techstars.com/jobs");
+    }
+
+    public static List<Element> cards(Document listing) {
+        return listing.select(CARD_SELECTOR);
+    }
+
+    /**
+     * Всі елементи списку: картки, пошук, фільтри, лічильник, кнопка Load more, футер
+     */
+    public static List<Element> candidates(Document listing) {
+        return listing.select(CANDIDATE_SELECTOR);
+    }
+
+    public static ExtractionPlan extractionPlan() {
+        try (InputStream input = open(EXTRACTION_SPEC)) {
+            return ExtractionPlan.compile(new ObjectMapper().readValue(input, ExtractionSpec.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static List<DateCase> dateCorpus() {
+        List<DateCase> cases = new ArrayList<>();
+        for (String line : read(DATE_CORPUS).split("\n")) {
+            if (line.startsWith("#") || line.isEmpty()) {
+                continue;
+            }
+            int tab = line.lastIndexOf('\t');
+            if (tab < 0) {
+                throw new IllegalStateException("Malformed date corpus line: '" + line + "'");
+            }
+            String expected = line.substring(tab + 1).trim();
+            cases.add(new DateCase(line.substring(0, tab), expected.equals("-")
+                ? EpochDateParser.UNPARSED
+                : Instant.parse(expected).getEpochSecond()));
+        }
+        return cases;
+    }
+
+    private static String read(String resource) {
+        try (InputStream input = open(resource)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream open(String resource) throws IOException {
+        InputStream input = BenchmarkFixtures.class.getResourceAsStream(resource);
+        if (input == null) {
+            throw new IOException("Benchmark fixture not found on classpath: " + resource);
+        }
+        return input;
+    }
+}
@@ -0,0 +1,129 @@
+package com.scrapper.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrapper.benchmark.board.BoardMarkup;
+import com.scrapper.benchmark.board.StandInBoardOptions;
+import com.scrapper.benchmark.board.StandInJobBoard;
+import com.scrapper.service.extraction.CardData;
+import com.scrapper.service.extraction.ExtractionPlan;
+import com.scrapper.validation.CardClassificationRules;
+import com.scrapper.validation.Validation;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Повний HTTP скрапінг підставної дошки без браузера: перша сторінка HTML, далі всі XHR
+ * сторінки /api/jobs, класифікація та екстракція кожної картки тим самим ExtractionPlan.
+ * Вимірює пропускну здатність конвеєра при заданій затримці XHR та варіанті розмітки.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BoardHttpCrawlBenchmark {
+
+    @Param({"500", "2000"})
+    private int totalJobs;
+
+    @Param({"0", "50"})
+    private int xhrLatencyMs;
+
+    @Param({"STANDARD", "TEXT_ONLY"})
+    private String markup;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OkHttpClient httpClient = new OkHttpClient();
+
+    private StandInJobBoard board;
+    private ExtractionPlan plan;
+    private int cardsSeen;
+
+    @Setup
+    public void setUp() throws IOException {
+        board = StandInJobBoard.start(StandInBoardOptions.builder()
+            .totalJobs(totalJobs)
+            .pageSize(50)
+            .xhrLatency(Duration.ofMillis(xhrLatencyMs))
+            .markup(BoardMarkup.from(markup))
+            .build());
+        plan = BenchmarkFixtures.extractionPlan();
+        crawl();
+        if (cardsSeen != totalJobs) {
+            throw new IllegalStateException("HTTP crawl saw " + cardsSeen + " of " + totalJobs + " cards");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        board.close();
+    }
+
+    @Benchmark
+    public List<CardData> crawl() throws IOException {
+        List<CardData> extracted = new ArrayList<>(totalJobs);
+        cardsSeen = 0;
+        Document listing = Jsoup.parse(get(board.listingUrl()), board.listingUrl());
+        extractValid(listing.select("[data-testid=job-card]"), extracted);
+
+        int offset = cardsSeen;
+        int total = Integer.MAX_VALUE;
+        while (offset < total) {
+            JsonNode page = objectMapper.readTree(get(board.baseUrl() + "/api/jobs?offset=" + offset
+                + "&limit=" + board.options().getPageSize()));
+            total = page.path("total").asInt();
+            JsonNode jobs = page.path("jobs");
+            if (jobs.isEmpty()) {
+                break;
+            }
+            StringBuilder html = new StringBuilder();
+            jobs.forEach(job -> html.append(job.path("html").asText()));
+            extractValid(Jsoup.parseBodyFragment(html.toString(), board.listingUrl())
+                .select("[data-testid=job-card]"), extracted);
+            offset += jobs.size();
+        }
+        return extracted;
+    }
+
+    private void extractValid(List<Element> cards, List<CardData> extracted) {
+        cardsSeen += cards.size();
+        for (Element card : cards) {
+            if (Validation.isValidJobCard(card, CardClassificationRules.DEFAULT)) {
+                extracted.add(plan.extract(card));
+            }
+        }
+    }
+
+    private String get(String url) throws IOException {
+        try (Response response = httpClient.newCall(new Request.Builder().url(url).get().build()).execute()) {
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new IOException("Stand-in board returned " + response.code() + " for " + url);
+            }
+            return response.body().string();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.scrapper.benchmark;
+
+import com.scrapper.validation.CardClassificationRules;
+import com.scrapper.validation.Validation;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класифікація кандидатів сторінки списку: повна Jsoup перевірка Validation.isValidJobCard,
+ * KeywordMatcher на готовому тексті та попередній цикл toLowerCase + contains по кожному слову.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardClassificationBenchmark {
+
+    private final CardClassificationRules rules = CardClassificationRules.DEFAULT;
+
+    private List<Element> candidates;
+    private String[] texts;
+    private boolean[] hasJobLink;
+
+    @Setup
+    public void setUp() {
+        candidates = BenchmarkFixtures.candidates(BenchmarkFixtures.listing());
+        texts = new String[candidates.size()];
+        hasJobLink = new boolean[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            Element candidate = candidates.get(i);
+            texts[i] = candidate.text();
+            hasJobLink[i] = !candidate.select(rules.getJobLinkSelector()).isEmpty();
+            if (rules.isValidJobCardText(texts[i], hasJobLink[i]) != legacyIsValid(texts[i], hasJobLink[i])) {
+                throw new IllegalStateException("KeywordMatcher and legacy loop disagree on: " + texts[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public int jsoupElements() {
+        int valid = 0;
+        for (Element candidate : candidates) {
+            if (Validation.isValidJobCard(candidate, rules)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int keywordMatcher() {
+        int valid = 0;
+        for (int i = 0; i < texts.length; i++) {
+            if (rules.isValidJobCardText(texts[i], hasJobLink[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int legacyKeywordLoop() {
+        int valid = 0;
+        for (int i = 0; i < texts.length; i++) {
+            if (legacyIsValid(texts[i], hasJobLink[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    // Попередня реалізація Validation.isValidJobCard над текстом картки
+    private static boolean legacyIsValid(String text, boolean hasJobLink) {
+        if (text == null || !hasJobLink || text.length() < CardClassificationRules.DEFAULT_MIN_TEXT_LENGTH) {
+            return false;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (String keyword : CardClassificationRules.defaultNavigationKeywords()) {
+            if (lower.contains(keyword.toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        for (String keyword : CardClassificationRules.defaultJobKeywords()) {
+            if (lower.contains(keyword.toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,108 @@
+package com.scrapper.benchmark;
+
+import com.scrapper.service.criteriaServices.DateParsingServiceImpl;
+import com.scrapper.util.EpochDateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Розбір дат публікації: EpochDateParser проти попередньої реалізації parseMetaDate
+ * (regex + LocalDateTime.parse, тільки YYYY-MM-DD). Перед вимірюванням весь корпус
+ * fixtures/dates.tsv перевіряється на коректність - розбіжність зупиняє запуск.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParsingBenchmark {
+
+    private final DateParsingServiceImpl dateParsingService = new DateParsingServiceImpl();
+
+    private String[] isoDates;
+    private String[] parseableDates;
+
+    @Setup
+    public void setUp() {
+        List<BenchmarkFixtures.DateCase> corpus = BenchmarkFixtures.dateCorpus();
+        for (BenchmarkFixtures.DateCase dateCase : corpus) {
+            long actual = EpochDateParser.parse(dateCase.input(), BenchmarkFixtures.CORPUS_NOW);
+            if (actual != dateCase.expected()) {
+                throw new IllegalStateException("Date corpus mismatch for '" + dateCase.input()
+                    + "': expected " + dateCase.expected() + ", got " + actual);
+            }
+        }
+        parseableDates = corpus.stream()
+            .filter(dateCase -> dateCase.expected() != EpochDateParser.UNPARSED)
+            .map(BenchmarkFixtures.DateCase::input)
+            .toArray(String[]::new);
+        isoDates = Arrays.stream(parseableDates)
+            .filter(input -> input.matches("\\d{4}-\\d{2}-\\d{2}"))
+            .toArray(String[]::new);
+        for (String date : isoDates) {
+            if (legacyParse(date) != EpochDateParser.parse(date)) {
+                throw new IllegalStateException("Legacy parser disagrees on '" + date + "'");
+            }
+        }
+    }
+
+    @Benchmark
+    public long epochParserIsoDates() {
+        long sum = 0;
+        for (String date : isoDates) {
+            sum += EpochDateParser.parse(date);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long legacyRegexIsoDates() {
+        long sum = 0;
+        for (String date : isoDates) {
+            sum += legacyParse(date);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long epochParserMixed() {
+        long sum = 0;
+        for (String date : parseableDates) {
+            sum += EpochDateParser.parse(date, BenchmarkFixtures.CORPUS_NOW);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long serviceParseMetaDate() {
+        long sum = 0;
+        for (String date : parseableDates) {
+            sum += dateParsingService.parseMetaDate(date).getDayOfYear();
+        }
+        return sum;
+    }
+
+    // Попередня реалізація DateParsingServiceImpl.parseMetaDate, переведена в Unix секунди
+    private static long legacyParse(String dateStr) {
+        String cleanDate = dateStr.trim();
+        if (cleanDate.matches("\\d{4}-\\d{2}-\\d{2}")) {
+            return LocalDateTime.parse(cleanDate + "T00:00:00").toEpochSecond(ZoneOffset.UTC);
+        }
+        return EpochDateParser.UNPARSED;
+    }
+}
@@ -0,0 +1,69 @@
+package com.scrapper.benchmark;
+
+import com.scrapper.service.extraction.CardData;
+import com.scrapper.service.extraction.ExtractionPlan;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Екстракція полів карток Jsoup бекендом ExtractionPlan (та сама специфікація, що й у скрапері):
+ * тільки екстракція над розібраними картками та повний шлях від HTML сторінки.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldExtractionBenchmark {
+
+    private ExtractionPlan plan;
+    private String html;
+    private List<Element> cards;
+
+    @Setup
+    public void setUp() {
+        plan = BenchmarkFixtures.extractionPlan();
+        html = BenchmarkFixtures.listingHtml();
+        cards = BenchmarkFixtures.cards(BenchmarkFixtures.listing());
+        if (cards.isEmpty()) {
+            throw new IllegalStateException("No job cards in " + BenchmarkFixtures.LISTING);
+        }
+        for (Element card : cards) {
+            CardData data = plan.extract(card);
+            if (data.first(CardData.TITLE) == null || data.first(CardData.COMPANY) == null) {
+                throw new IllegalStateException("Extraction plan misses title/company: " + data.values());
+            }
+        }
+    }
+
+    @Benchmark
+    public void extractCards(Blackhole blackhole) {
+        for (Element card : cards) {
+            blackhole.consume(plan.extract(card));
+        }
+    }
+
+    @Benchmark
+    public void parseAndExtract(Blackhole blackhole) {
+        Document document = Jsoup.parse(html, "https://jobs.techstars.com/jobs");
+        for (Element card : BenchmarkFixtures.cards(document)) {
+            blackhole.consume(plan.extract(card));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.scrapper.benchmark;
+
+import com.scrapper.model.Job;
+import com.scrapper.service.JobCreationService;
+import com.scrapper.service.criteriaServices.DateParsingServiceImpl;
+import com.scrapper.service.extraction.CardData;
+import com.scrapper.service.extraction.ExtractionPlan;
+import com.scrapper.validation.Validation;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Побудова Job з витягнутих даних картки так само, як ApplyUrlScraperServiceImpl.createJobFromData:
+ * розбір дати, JobCreationService.createJobWithAllData (теги, локації) та перевірка Validation.IS_VALID.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobBuildingBenchmark {
+
+    private final JobCreationService jobCreationService = new JobCreationService();
+    private final DateParsingServiceImpl dateParsingService = new DateParsingServiceImpl();
+
+    private List<CardData> cards;
+    private List<String> jobPageUrls;
+
+    @Setup
+    public void setUp() {
+        ExtractionPlan plan = BenchmarkFixtures.extractionPlan();
+        List<Element> elements = BenchmarkFixtures.cards(BenchmarkFixtures.listing());
+        cards = elements.stream().map(plan::extract).toList();
+        jobPageUrls = elements.stream()
+            .map(card -> card.select("a[data-testid=job-card-link]").attr("abs:href"))
+            .toList();
+        for (int i = 0; i < cards.size(); i++) {
+            if (!Validation.IS_VALID.test(buildJob(cards.get(i), jobPageUrls.get(i)))) {
+                throw new IllegalStateException("Fixture card builds an invalid job: " + cards.get(i).values());
+            }
+        }
+    }
+
+    @Benchmark
+    public void buildJobs(Blackhole blackhole) {
+        for (int i = 0; i < cards.size(); i++) {
+            Job job = buildJob(cards.get(i), jobPageUrls.get(i));
+            blackhole.consume(Validation.IS_VALID.test(job));
+        }
+    }
+
+    private Job buildJob(CardData data, String jobPageUrl) {
+        String positionName = data.first(CardData.TITLE);
+        List<String> functions = data.all(CardData.JOB_FUNCTIONS);
+        return jobCreationService.createJobWithAllData(
+            jobPageUrl,
+            positionName != null ? positionName : "Unknown Position",
+            data.first(CardData.COMPANY),
+            data.first(CardData.LOGO_URL),
+            data.first(CardData.LOCATION),
+            data.all(CardData.TAGS),
+            dateParsingService.parseEpochSeconds(data.first(CardData.POSTED_DATE)),
+            functions.isEmpty() ? "Software Engineering" : functions.get(0),
+            data.first(CardData.DESCRIPTION)
+        );
+    }
+}
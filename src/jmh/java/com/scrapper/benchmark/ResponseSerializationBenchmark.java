@@ -0,0 +1,97 @@
+package com.scrapper.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrapper.dto.CrawlProfileDto;
+import com.scrapper.dto.ScrapeResponseDto;
+import com.scrapper.service.JobCreationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON відповідь /api/scrape: ScrapeResponseDto з urls вакансій, з профілем скрапінгу та без,
+ * через ObjectMapper з налаштуваннями Spring за замовчуванням.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "2000"})
+    private int jobUrls;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ScrapeResponseDto response;
+    private ScrapeResponseDto responseWithProfile;
+
+    @Setup
+    public void setUp() {
+        List<String> urls = new ArrayList<>(jobUrls);
+        for (int i = 0; i < jobUrls; i++) {
+            urls.add("https://jobs.techstars.com/companies/company-" + (i % 97) + "/jobs/" + (48210 + i)
+                + "-senior-backend-engineer");
+        }
+        JobCreationService jobCreationService = new JobCreationService();
+        response = jobCreationService.createSuccessResponse(urls, urls.size() / 2);
+        responseWithProfile = jobCreationService.createSuccessResponse(urls, urls.size() / 2);
+        responseWithProfile.setProfile(profile(urls.size()));
+    }
+
+    @Benchmark
+    public byte[] response() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] responseWithProfile() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responseWithProfile);
+    }
+
+    private static CrawlProfileDto profile(int jobsFound) {
+        Map<String, Long> stageMillis = new LinkedHashMap<>();
+        stageMillis.put("driver_creation", 1_850L);
+        stageMillis.put("page_load", 2_400L);
+        stageMillis.put("filter_click", 900L);
+        stageMillis.put("load_all_jobs", 48_000L);
+        stageMillis.put("card_discovery", 1_200L);
+        stageMillis.put("card_extraction", 3_100L);
+        stageMillis.put("save_jobs", 2_700L);
+        return CrawlProfileDto.builder()
+            .id(1)
+            .source("api")
+            .jobFunctions(List.of("Software Engineering"))
+            .startedAt(1_755_259_200_000L)
+            .durationMs(60_150)
+            .outcome("success")
+            .jobsFound(jobsFound)
+            .jobsSaved(jobsFound / 2)
+            .stageMillis(stageMillis)
+            .webdriverCommands(4_210)
+            .scrollIterations(85)
+            .sleepMs(21_000)
+            .dbStatements(jobsFound * 3L)
+            .writeStatements(jobsFound)
+            .peakChromeRssKb(612_000)
+            .build();
+    }
+}
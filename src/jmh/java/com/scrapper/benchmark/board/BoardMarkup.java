@@ -0,0 +1,85 @@
+package com.scrapper.benchmark.board;
+
+import org.jsoup.nodes.Entities;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Locale;
+
+/**
+ * Варіанти розмітки картки вакансії:
+ * STANDARD - як на Techstars зараз (data-testid, клас job-card, schema.org meta);
+ * NO_TEST_IDS - без data-testid та класу job-card, картки знаходяться тільки запасними селекторами;
+ * TEXT_ONLY - без meta тегів, поля та дата (відносна) тільки в тексті.
+ */
+public enum BoardMarkup {
+    STANDARD, NO_TEST_IDS, TEXT_ONLY;
+
+    public static BoardMarkup from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    public String card(StandInJob job, Instant now) {
+        boolean testIds = this != NO_TEST_IDS;
+        boolean meta = this != TEXT_ONLY;
+        StringBuilder html = new StringBuilder(1_500);
+        html.append(testIds
+            ? "<div class=\"sc-beqWaB gupdsY job-card\" data-testid=\"job-card\">"
+            : "<div class=\"sc-beqWaB gupdsY\">");
+        html.append("<div class=\"sc-beqWaB sc-gueYoa lpllVF MYFxR\"")
+            .append(meta ? " itemscope itemtype=\"https://schema.org/JobPosting\">" : ">");
+        if (meta) {
+            html.append("<meta itemprop=\"title\" content=\"").append(escape(job.title())).append("\">")
+                .append("<div itemprop=\"hiringOrganization\" itemscope>")
+                .append("<meta itemprop=\"name\" content=\"").append(escape(job.company())).append("\">")
+                .append("</div>")
+                .append("<meta itemprop=\"datePosted\" content=\"")
+                .append(LocalDate.ofInstant(job.postedAt(), ZoneOffset.UTC)).append("\">")
+                .append("<div itemprop=\"jobLocation\" itemscope><meta itemprop=\"address\" content=\"")
+                .append(escape(job.location())).append("\"></div>")
+                .append("<meta itemprop=\"jobFunction\" content=\"").append(escape(job.jobFunction()))
+                .append("\">");
+        }
+        html.append("<div data-testid=\"profile-picture\"><img data-testid=\"image\" alt=\"")
+            .append(escape(job.company())).append(" logo\" src=\"/logos/").append(job.companySlug())
+            .append(".png\"></div>");
+        html.append(testIds ? "<a data-testid=\"job-card-link\" href=\"" : "<a href=\"").append(job.path())
+            .append("\"><div class=\"sc-beqWaB kToBwF\">").append(escape(job.title())).append("</div></a>");
+        html.append("<a class=\"sc-beqWaB jfIxNQ\" href=\"/companies/").append(job.companySlug()).append("\">")
+            .append(escape(job.company())).append("</a>");
+        html.append("<span class=\"sc-beqWaB vIGjl\">").append(escape(job.location())).append("</span>");
+        html.append("<div class=\"sc-beqWaB enQFes\">").append(relativeDate(job.postedAt(), now))
+            .append("</div>");
+        html.append("<div class=\"sc-dmqHEX\">");
+        for (String tag : job.tags()) {
+            html.append("<div class=\"sc-dmqHEX OHsAR\"").append(testIds ? " data-testid=\"tag\">" : ">")
+                .append(escape(tag)).append("</div>");
+        }
+        html.append("</div>");
+        if (testIds) {
+            html.append("<div data-testid=\"description\">").append(escape(job.description())).append("</div>");
+        }
+        return html.append("</div></div>").toString();
+    }
+
+    private static String relativeDate(Instant postedAt, Instant now) {
+        long hours = Duration.between(postedAt, now).toHours();
+        if (hours < 1) {
+            return "just now";
+        }
+        if (hours < 24) {
+            return hours == 1 ? "an hour ago" : hours + " hours ago";
+        }
+        long days = hours / 24;
+        if (days > 30) {
+            return "30+ days ago";
+        }
+        return days == 1 ? "yesterday" : days + " days ago";
+    }
+
+    private static String escape(String value) {
+        return Entities.escape(value);
+    }
+}
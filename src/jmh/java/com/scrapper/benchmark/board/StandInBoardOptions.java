@@ -0,0 +1,82 @@
+package com.scrapper.benchmark.board;
+
+import com.scrapper.model.JobFunction;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Налаштування підставної дошки: кількість вакансій, розмір сторінки, затримки відповіді,
+ * варіант розмітки карток. Однаковий seed дає однаковий набір вакансій.
+ */
+@Value
+@Builder(toBuilder = true)
+public class StandInBoardOptions {
+
+    /**
+     * 0 - вільний порт
+     */
+    @Builder.Default
+    int port = 0;
+
+    @Builder.Default
+    int totalJobs = 500;
+
+    /**
+     * Картки в першому HTML та в кожній XHR сторінці
+     */
+    @Builder.Default
+    int pageSize = 20;
+
+    @Builder.Default
+    Duration pageLatency = Duration.ZERO;
+
+    @Builder.Default
+    Duration xhrLatency = Duration.ofMillis(150);
+
+    @Builder.Default
+    BoardMarkup markup = BoardMarkup.STANDARD;
+
+    @Builder.Default
+    long seed = 42;
+
+    /**
+     * Час, від якого рахуються дати публікації (найновіша вакансія - now мінус годину)
+     */
+    @Builder.Default
+    Instant now = Instant.now();
+
+    @Builder.Default
+    List<String> jobFunctions = Arrays.stream(JobFunction.values()).map(JobFunction::toString).toList();
+
+    /**
+     * Розбір аргументів командного рядка: --port=8089 --total=2000 --page-size=20
+     * --page-latency-ms=0 --xhr-latency-ms=150 --markup=standard --seed=42
+     */
+    public static StandInBoardOptions fromArgs(String... args) {
+        StandInBoardOptionsBuilder builder = builder();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "port" -> builder.port(Integer.parseInt(value));
+                case "total" -> builder.totalJobs(Integer.parseInt(value));
+                case "page-size" -> builder.pageSize(Integer.parseInt(value));
+                case "page-latency-ms" -> builder.pageLatency(Duration.ofMillis(Long.parseLong(value)));
+                case "xhr-latency-ms" -> builder.xhrLatency(Duration.ofMillis(Long.parseLong(value)));
+                case "markup" -> builder.markup(BoardMarkup.from(value));
+                case "seed" -> builder.seed(Long.parseLong(value));
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.scrapper.benchmark.board;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Синтетична вакансія підставної дошки
+ */
+public record StandInJob(int id, String title, String company, String companySlug, String location,
+                         String jobFunction, List<String> tags, Instant postedAt, String description) {
+
+    private static final String[] SENIORITY = {"Senior", "Junior", "Lead", "Staff", "Principal", ""};
+    // Посада -> job function, як її показує дошка
+    private static final String[][] ROLES = {
+        {"Backend Engineer", "Software Engineering"}, {"Frontend Developer", "Software Engineering"},
+        {"Machine Learning Engineer", "Software Engineering"}, {"Product Designer", "Design"},
+        {"Data Analyst", "Operations"}, {"Engineering Manager", "Software Engineering"},
+        {"QA Engineer", "Quality Assurance"}, {"Marketing Specialist", "Marketing & Communications"},
+        {"Sales Director", "Sales & Business Development"}, {"Operations Coordinator", "Operations"},
+        {"People Operations Manager", "People & HR"}, {"Legal Counsel", "Legal"},
+        {"IT Support Specialist", "IT"}, {"Hardware Engineer", "Other Engineering"},
+        {"Product Manager", "Product"}};
+    private static final String[] COMPANY_PREFIXES = {"Acme", "Lumen", "Orbital", "Kindred", "Bright",
+        "Nimbus", "Harbor", "Cortex", "Green", "Volt", "Quanta", "Bastion", "Ledger", "Snap", "Field"};
+    private static final String[] COMPANY_SUFFIXES = {"Robotics", "Health", "Pay", "Learning", "Loop",
+        "Labs", "Logistics", "Works", "Analytics", "Energy"};
+    private static final String[] LOCATIONS = {"Berlin, Germany", "New York, NY, USA", "Austin, TX, USA",
+        "London, UK", "Toronto, ON, Canada", "Chicago, IL, USA", "Paris, France", "Singapore",
+        "Lisbon, Portugal", "Sydney, Australia", "Boston, MA, USA", "Tel Aviv, Israel"};
+    private static final String[] TAGS = {"Full-time", "Part-time", "Hybrid", "Onsite", "Python", "Java",
+        "React", "SQL", "B2B", "SaaS", "Fintech", "Climate"};
+
+    public String path() {
+        String slug = title.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        return "/companies/" + companySlug + "/jobs/" + id + "-" + slug;
+    }
+
+    /**
+     * Детерміновано генерує вакансії від найновішої до найстарішої
+     */
+    public static List<StandInJob> generate(StandInBoardOptions options) {
+        Random random = new Random(options.getSeed());
+        List<String> functions = options.getJobFunctions();
+        List<StandInJob> jobs = new ArrayList<>(options.getTotalJobs());
+        Instant postedAt = options.getNow().minusSeconds(3_600);
+        for (int i = 0; i < options.getTotalJobs(); i++) {
+            String seniority = SENIORITY[random.nextInt(SENIORITY.length)];
+            String[] role = ROLES[random.nextInt(ROLES.length)];
+            String title = seniority.isEmpty() ? role[0] : seniority + " " + role[0];
+            String function = functions.contains(role[1])
+                ? role[1]
+                : functions.get(random.nextInt(functions.size()));
+            String company = COMPANY_PREFIXES[random.nextInt(COMPANY_PREFIXES.length)] + " "
+                + COMPANY_SUFFIXES[random.nextInt(COMPANY_SUFFIXES.length)];
+            String slug = company.toLowerCase(Locale.ROOT).replace(' ', '-');
+            List<String> tags = new ArrayList<>();
+            int tagCount = 1 + random.nextInt(4);
+            for (int t = 0; t < tagCount; t++) {
+                String tag = TAGS[random.nextInt(TAGS.length)];
+                if (!tags.contains(tag)) {
+                    tags.add(tag);
+                }
+            }
+            String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            jobs.add(new StandInJob(100_000 + i, title, company, slug, location,
+                function, List.copyOf(tags), postedAt,
+                "Work with the " + company + " team as a " + title.toLowerCase(Locale.ROOT)
+                    + " and help us grow from " + location + "."));
+            // Від кількох хвилин до доби між публікаціями
+            postedAt = postedAt.minusSeconds(300 + random.nextInt(86_400));
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,322 @@
+package com.scrapper.benchmark.board;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jsoup.nodes.Entities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Підставна дошка вакансій у стилі Techstars/Getro на вбудованому HTTP сервері JDK.
+ * Відтворює те, з чим працює скрапер: dropdown "Job function" (фільтр пишеться в URL як
+ * base64 JSON, як на Getro), лічильник "Showing X jobs", кнопку Load more та нескінченну
+ * прокрутку через XHR сторінки /api/jobs, детальні сторінки вакансій для HTTP запитів.
+ * Затримки, розмір сторінки, кількість вакансій та розмітка карток задаються StandInBoardOptions.
+ * <p>
+ * Запуск окремо: mvn -Pbenchmark test-compile exec:exec@board -Dboard.args="--port=8089 --total=2000",
+ * далі застосунок з --scraping.base-url=http://localhost:8089/jobs
+ */
+public class StandInJobBoard implements AutoCloseable {
+
+    public static final String PAGE = "page";
+    public static final String XHR = "xhr";
+    public static final String DETAIL = "detail";
+
+    private static final String FILTER_PARAM = "filter";
+    private static final String FILTER_FIELD = "job_functions";
+
+    private final StandInBoardOptions options;
+    private final List<StandInJob> jobs;
+    private final String template;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private StandInJobBoard(StandInBoardOptions options) throws IOException {
+        this.options = options;
+        this.jobs = StandInJob.generate(options);
+        this.template = readTemplate();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+            options.getPort()), 0);
+        // Затримки імітуються sleep у потоці запиту, тому запити не повинні чекати один одного
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stand-in-board");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static StandInJobBoard start(StandInBoardOptions options) {
+        try {
+            StandInJobBoard board = new StandInJobBoard(options);
+            board.server.start();
+            return board;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        StandInJobBoard board = start(StandInBoardOptions.fromArgs(args));
+        Runtime.getRuntime().addShutdownHook(new Thread(board::close));
+        System.out.printf("🧪 Stand-in job board: %s (%d jobs, page %d, XHR latency %d ms, markup %s)%n",
+            board.listingUrl(), board.options.getTotalJobs(), board.options.getPageSize(),
+            board.options.getXhrLatency().toMillis(), board.options.getMarkup());
+        Thread.currentThread().join();
+    }
+
+    /**
+     * Значення для scraping.base-url
+     */
+    public String listingUrl() {
+        return baseUrl() + "/jobs";
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public StandInBoardOptions options() {
+        return options;
+    }
+
+    public List<StandInJob> jobs() {
+        return jobs;
+    }
+
+    /**
+     * Вакансії, що відповідають фільтру (порожній фільтр - всі)
+     */
+    public List<StandInJob> jobs(Set<String> jobFunctions) {
+        if (jobFunctions.isEmpty()) {
+            return jobs;
+        }
+        return jobs.stream().filter(job -> jobFunctions.contains(job.jobFunction())).toList();
+    }
+
+    /**
+     * Кількість оброблених запитів за типом: page, xhr, detail
+     */
+    public Map<String, Long> requestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        requests.forEach((kind, count) -> counts.put(kind, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            if (path.equals("/") || path.equals("/jobs")) {
+                count(PAGE);
+                pause(options.getPageLatency());
+                respond(exchange, 200, "text/html; charset=utf-8", listingPage(query));
+            } else if (path.equals("/api/jobs")) {
+                count(XHR);
+                pause(options.getXhrLatency());
+                respond(exchange, 200, "application/json", jobsPage(query));
+            } else if (path.startsWith("/companies/") && path.contains("/jobs/")) {
+                count(DETAIL);
+                pause(options.getPageLatency());
+                StandInJob job = findJob(path);
+                if (job == null) {
+                    respond(exchange, 404, "text/plain", "Not found");
+                } else {
+                    respond(exchange, 200, "text/html; charset=utf-8", detailPage(job));
+                }
+            } else {
+                exchange.sendResponseHeaders(path.startsWith("/logos/") ? 204 : 404, -1);
+            }
+        }
+    }
+
+    private String listingPage(Map<String, String> query) {
+        Set<String> selected = selectedFunctions(query);
+        List<StandInJob> matching = jobs(selected);
+        List<StandInJob> firstPage = matching.subList(0, Math.min(options.getPageSize(), matching.size()));
+
+        String optionsHtml = options.getJobFunctions().stream()
+            .map(function -> "    <div data-testid=\"job_functions-" + function.replace(" ", "%20")
+                + "\" role=\"listitem\"><div class=\"sc-beqWaB dfbUjw"
+                + (selected.contains(function) ? " selected" : "") + "\">" + Entities.escape(function)
+                + "</div></div>")
+            .collect(Collectors.joining("\n"));
+        String cards = firstPage.stream()
+            .map(job -> options.getMarkup().card(job, options.getNow()))
+            .collect(Collectors.joining("\n"));
+        String functionsJson;
+        try {
+            functionsJson = objectMapper.writeValueAsString(new ArrayList<>(selected));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return template
+            .replace("{{OPTIONS}}", optionsHtml)
+            .replace("{{CARDS}}", cards)
+            .replace("{{TOTAL}}", String.valueOf(matching.size()))
+            .replace("{{OFFSET}}", String.valueOf(firstPage.size()))
+            .replace("{{PAGE_SIZE}}", String.valueOf(options.getPageSize()))
+            .replace("{{FUNCTIONS_JSON}}", functionsJson)
+            .replace("{{LOAD_MORE_HIDDEN}}",
+                firstPage.size() < matching.size() ? "" : " style=\"display: none\"");
+    }
+
+    /**
+     * XHR сторінка: {total, offset, jobs: [{id, title, company, location, jobFunction, postedAt, url, html}]}
+     */
+    private String jobsPage(Map<String, String> query) throws IOException {
+        List<StandInJob> matching = jobs(selectedFunctions(query));
+        int offset = Math.max(0, parseInt(query.get("offset"), 0));
+        int limit = Math.max(1, parseInt(query.get("limit"), options.getPageSize()));
+        List<Map<String, Object>> page = new ArrayList<>();
+        for (int i = offset; i < Math.min(matching.size(), offset + limit); i++) {
+            StandInJob job = matching.get(i);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", job.id());
+            row.put("title", job.title());
+            row.put("company", job.company());
+            row.put("location", job.location());
+            row.put("jobFunction", job.jobFunction());
+            row.put("postedAt", job.postedAt().toString());
+            row.put("url", job.path());
+            row.put("html", options.getMarkup().card(job, options.getNow()));
+            page.add(row);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("total", matching.size());
+        body.put("offset", offset);
+        body.put("jobs", page);
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private String detailPage(StandInJob job) {
+        return "<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>" + Entities.escape(job.title())
+            + "</title></head><body><div itemscope itemtype=\"https://schema.org/JobPosting\">"
+            + "<h1 itemprop=\"title\">" + Entities.escape(job.title()) + "</h1>"
+            + "<meta itemprop=\"jobFunction\" content=\"" + Entities.escape(job.jobFunction()) + "\">"
+            + "<div data-testid=\"careerPage\"><p>" + Entities.escape(job.description()) + "</p></div>"
+            + "</div></body></html>";
+    }
+
+    private StandInJob findJob(String path) {
+        String tail = path.substring(path.lastIndexOf('/') + 1);
+        int dash = tail.indexOf('-');
+        int id = parseInt(dash > 0 ? tail.substring(0, dash) : tail, -1);
+        int index = id - 100_000;
+        return index >= 0 && index < jobs.size() ? jobs.get(index) : null;
+    }
+
+    /**
+     * Фільтр з URL: base64 (звичайний або URL-safe) JSON {"job_functions": [...]}
+     */
+    private Set<String> selectedFunctions(Map<String, String> query) {
+        String filter = query.get(FILTER_PARAM);
+        if (filter == null || filter.isBlank()) {
+            return Set.of();
+        }
+        try {
+            // Незакодований "+" після URL декодування стає пробілом
+            String encoded = filter.replace(' ', '+');
+            byte[] json = encoded.indexOf('-') >= 0 || encoded.indexOf('_') >= 0
+                ? Base64.getUrlDecoder().decode(encoded)
+                : Base64.getDecoder().decode(encoded);
+            JsonNode values = objectMapper.readTree(json).path(FILTER_FIELD);
+            Set<String> functions = new LinkedHashSet<>();
+            values.forEach(value -> functions.add(value.asText()));
+            return functions;
+        } catch (IllegalArgumentException | IOException e) {
+            return Set.of();
+        }
+    }
+
+    private void count(String kind) {
+        requests.computeIfAbsent(kind, key -> new LongAdder()).increment();
+    }
+
+    private static void pause(Duration latency) {
+        if (latency.isZero() || latency.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body)
+        throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static int parseInt(String value, int fallback) {
+        try {
+            return value != null ? Integer.parseInt(value) : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static String readTemplate() throws IOException {
+        try (InputStream input = StandInJobBoard.class.getResourceAsStream("/board/listing.html")) {
+            if (input == null) {
+                throw new IOException("Stand-in board template /board/listing.html not found");
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
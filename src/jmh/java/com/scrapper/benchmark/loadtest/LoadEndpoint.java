@@ -0,0 +1,41 @@
+package com.scrapper.benchmark.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Endpoints під навантаженням: скрапінг (запис) та endpoints читання.
+ * Шляхи відносно context path (/api); ScrapeController додає ще власний префікс /api.
+ */
+public enum LoadEndpoint {
+    SCRAPE("/api/scrape"),
+    CRAWL_RUNS("/api/crawl-runs?limit=20"),
+    HEALTH("/actuator/health");
+
+    private final String path;
+
+    LoadEndpoint(String path) {
+        this.path = path;
+    }
+
+    public static LoadEndpoint from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    HttpRequest request(String baseUrl, String jobFunction, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+        if (this != SCRAPE) {
+            return builder.GET().build();
+        }
+        return builder.header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"jobFunctions\":[\""
+                + jobFunction.replace("\"", "\\\"") + "\"]}"))
+            .build();
+    }
+}
@@ -0,0 +1,246 @@
+package com.scrapper.benchmark.loadtest;
+
+import com.scrapper.benchmark.BenchmarkDatabase;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Навантажувальний тест REST API: для кожного endpoint та рівня паралельності N потоків у
+ * замкненому циклі надсилають запити протягом заданого часу. Звіт - p50/p99/max затримки,
+ * пропускна здатність, частка помилок, середній розмір відповіді, а також максимум зайнятих
+ * потоків Tomcat та активних/очікуючих з'єднань Hikari (з /actuator/prometheus під час рівня).
+ * За замовчуванням додаток з профілем loadtest (StubApplyUrlScraperService замість Selenium)
+ * піднімається в цьому ж процесі на Postgres з Testcontainers.
+ * Запуск: mvn -Pbenchmark test-compile exec:exec@loadtest -Dloadtest.args="--concurrency=1,16,64 --jobs=2000"
+ */
+public final class LoadTestHarness {
+
+    private static final String ROW_FORMAT = "%-11s %5s %9s %7s %7s %9s %9s %9s %9s %9s %7s %7s %8s%n";
+    private static final List<String> SERVER_GAUGES = List.of("tomcat_threads_busy_threads",
+        "hikaricp_connections_active", "hikaricp_connections_pending");
+
+    private record LevelResult(LoadEndpoint endpoint, int concurrency, int requests, int errors,
+                               Map<Integer, Integer> statuses, double seconds, long[] latenciesNanos,
+                               long responseBytes, Map<String, Double> serverPeaks) {
+
+        double percentileMillis(double quantile) {
+            if (latenciesNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * latenciesNanos.length) - 1;
+            return latenciesNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Затримки одного потоку навантаження (без синхронізації до кінця рівня)
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private int errors;
+        private long bytes;
+        private final Map<Integer, Integer> statuses = new LinkedHashMap<>();
+
+        void record(long nanos, int status, long responseBytes) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            bytes += responseBytes;
+            statuses.merge(status, 1, Integer::sum);
+            if (status < 200 || status >= 300) {
+                errors++;
+            }
+        }
+    }
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromArgs(args);
+        if (!options.getBaseUrl().isBlank()) {
+            run(options.getBaseUrl(), options);
+            return;
+        }
+        BenchmarkDatabase.use(options.getImage(),
+            new BenchmarkDatabase(options.getJdbcUrl(), options.getUsername(), options.getPassword()),
+            database -> {
+                Map<String, Object> overrides = new LinkedHashMap<>();
+                overrides.put("server.port", "0");
+                overrides.put("server.tomcat.mbeanregistry.enabled", "true");
+                overrides.put("scraping.loadtest.latency-ms", options.getStubLatencyMs());
+                overrides.put("scraping.loadtest.jobs", options.getStubJobs());
+                overrides.put("scraping.loadtest.failure-rate", options.getStubFailureRate());
+                overrides.put("logging.level.com.scrapper", "WARN");
+                try (ConfigurableApplicationContext context = database.startApp(WebApplicationType.SERVLET,
+                    overrides, "loadtest")) {
+                    String port = context.getEnvironment().getProperty("local.server.port");
+                    run("http://localhost:" + port + "/api", options);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            });
+    }
+
+    private static void run(String baseUrl, LoadTestOptions options) throws InterruptedException {
+        ExecutorService clientExecutor = Executors.newCachedThreadPool();
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(clientExecutor)
+            .build();
+        System.out.printf("Load test against %s: %s s per level (+%s s warmup), stub %d jobs at %d ms%n",
+            baseUrl, options.getDuration().toSeconds(), options.getWarmup().toSeconds(),
+            options.getStubJobs(), options.getStubLatencyMs());
+        System.out.printf(ROW_FORMAT, "Endpoint", "Conc", "Requests", "Errors", "Err %", "Req/s",
+            "p50 ms", "p99 ms", "Max ms", "Avg KB", "Tomcat", "Pool", "Pending");
+        try {
+            for (LoadEndpoint endpoint : options.getEndpoints()) {
+                for (int concurrency : options.getConcurrency()) {
+                    print(level(client, baseUrl, endpoint, concurrency, options));
+                }
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static LevelResult level(HttpClient client, String baseUrl, LoadEndpoint endpoint, int concurrency,
+                                     LoadTestOptions options) throws InterruptedException {
+        HttpRequest request = endpoint.request(baseUrl, options.getJobFunction(), options.getRequestTimeout());
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.getWarmup().toNanos();
+        long endAt = measureFrom + options.getDuration().toNanos();
+
+        Map<String, Double> serverPeaks = new ConcurrentHashMap<>();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> sampleServer(client, baseUrl, serverPeaks), 0, 500,
+            TimeUnit.MILLISECONDS);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Recorder>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                Recorder recorder = new Recorder();
+                while (System.nanoTime() < endAt) {
+                    long sentAt = System.nanoTime();
+                    int status;
+                    long bytes = 0;
+                    try {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        status = response.statusCode();
+                        bytes = response.body().length;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    } catch (Exception e) {
+                        // Таймаут, відмова з'єднання тощо
+                        status = -1;
+                    }
+                    long finishedAt = System.nanoTime();
+                    // Рахуються запити, відправлені після розігріву
+                    if (sentAt >= measureFrom) {
+                        recorder.record(finishedAt - sentAt, status, bytes);
+                    }
+                }
+                return recorder;
+            }));
+        }
+
+        List<Recorder> recorders = new ArrayList<>(concurrency);
+        for (Future<Recorder> future : futures) {
+            try {
+                recorders.add(future.get());
+            } catch (Exception e) {
+                throw new IllegalStateException("Load worker failed", e);
+            }
+        }
+        workers.shutdown();
+        sampler.shutdownNow();
+        // Останні запити завершуються після endAt - пропускна здатність рахується за фактичний час
+        double seconds = (System.nanoTime() - measureFrom) / 1e9;
+
+        int requests = recorders.stream().mapToInt(recorder -> recorder.size).sum();
+        long[] latencies = new long[requests];
+        int offset = 0;
+        int errors = 0;
+        long bytes = 0;
+        Map<Integer, Integer> statuses = new LinkedHashMap<>();
+        for (Recorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, latencies, offset, recorder.size);
+            offset += recorder.size;
+            errors += recorder.errors;
+            bytes += recorder.bytes;
+            recorder.statuses.forEach((status, count) -> statuses.merge(status, count, Integer::sum));
+        }
+        Arrays.sort(latencies);
+        return new LevelResult(endpoint, concurrency, requests, errors, statuses, seconds, latencies, bytes,
+            serverPeaks);
+    }
+
+    /**
+     * Максимуми gauge сервера за рівень; якщо prometheus недоступний, колонки залишаються порожніми
+     */
+    private static void sampleServer(HttpClient client, String baseUrl, Map<String, Double> peaks) {
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                    URI.create(baseUrl + "/actuator/prometheus")).timeout(Duration.ofSeconds(5)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return;
+            }
+            response.body().lines().forEach(line -> SERVER_GAUGES.forEach(gauge -> {
+                if (line.startsWith(gauge + "{") || line.startsWith(gauge + " ")) {
+                    double value = Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+                    peaks.merge(gauge, value, Math::max);
+                }
+            }));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Семплінг не впливає на результат рівня
+        }
+    }
+
+    private static void print(LevelResult result) {
+        System.out.printf(ROW_FORMAT, result.endpoint().label(), result.concurrency(), result.requests(),
+            result.errors(),
+            String.format("%.1f", result.requests() == 0 ? 0 : result.errors() * 100.0 / result.requests()),
+            String.format("%.1f", result.requests() / result.seconds()),
+            String.format("%.1f", result.percentileMillis(0.50)),
+            String.format("%.1f", result.percentileMillis(0.99)),
+            String.format("%.1f", result.percentileMillis(1.0)),
+            String.format("%.1f", result.requests() == 0 ? 0 : result.responseBytes() / 1024.0 / result.requests()),
+            peak(result, "tomcat_threads_busy_threads"),
+            peak(result, "hikaricp_connections_active"),
+            peak(result, "hikaricp_connections_pending"));
+        if (result.errors() > 0) {
+            System.out.printf("%11s statuses %s (-1 = no response)%n", "", result.statuses());
+        }
+    }
+
+    private static String peak(LevelResult result, String gauge) {
+        Double value = result.serverPeaks().get(gauge);
+        return value == null ? "-" : String.valueOf(value.longValue());
+    }
+}
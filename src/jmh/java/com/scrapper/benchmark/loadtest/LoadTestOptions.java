@@ -0,0 +1,107 @@
+package com.scrapper.benchmark.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Налаштування навантажувального тесту: рівні паралельності, тривалість рівня, endpoints та
+ * параметри заглушки скрапера (для додатку, що піднімається в тому ж процесі)
+ */
+@Value
+@Builder(toBuilder = true)
+public class LoadTestOptions {
+
+    /**
+     * Адреса context path додатку (http://localhost:8080/api); порожній - додаток з профілем
+     * loadtest піднімається в цьому процесі
+     */
+    @Builder.Default
+    String baseUrl = "";
+
+    @Builder.Default
+    List<Integer> concurrency = List.of(1, 8, 32, 128);
+
+    @Builder.Default
+    Duration duration = Duration.ofSeconds(10);
+
+    /**
+     * Початок кожного рівня, який не враховується в статистиці
+     */
+    @Builder.Default
+    Duration warmup = Duration.ofSeconds(2);
+
+    @Builder.Default
+    List<LoadEndpoint> endpoints = List.of(LoadEndpoint.SCRAPE, LoadEndpoint.CRAWL_RUNS);
+
+    @Builder.Default
+    String jobFunction = "Software Engineering";
+
+    @Builder.Default
+    Duration requestTimeout = Duration.ofSeconds(60);
+
+    @Builder.Default
+    long stubLatencyMs = 200;
+
+    @Builder.Default
+    int stubJobs = 50;
+
+    @Builder.Default
+    double stubFailureRate = 0;
+
+    @Builder.Default
+    String image = "postgres:16-alpine";
+
+    /**
+     * Порожній - Postgres піднімається в Testcontainers
+     */
+    @Builder.Default
+    String jdbcUrl = "";
+
+    @Builder.Default
+    String username = "postgres";
+
+    @Builder.Default
+    String password = "postgres";
+
+    /**
+     * Розбір аргументів командного рядка: --base-url=http://localhost:8080/api --concurrency=1,8,32
+     * --duration-s=10 --warmup-s=2 --endpoints=scrape,crawl-runs,health --job-function=Design
+     * --timeout-s=60 --latency-ms=200 --jobs=50 --failure-rate=0.01 --image=postgres:16-alpine
+     * --jdbc-url=jdbc:postgresql://localhost:5432/loadtest --username=postgres --password=postgres
+     */
+    public static LoadTestOptions fromArgs(String... args) {
+        LoadTestOptionsBuilder builder = builder();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "base-url" -> builder.baseUrl(value.replaceAll("/+$", ""));
+                case "concurrency" -> builder.concurrency(Arrays.stream(value.split(","))
+                    .map(String::trim).map(Integer::parseInt).toList());
+                case "duration-s" -> builder.duration(Duration.ofSeconds(Long.parseLong(value)));
+                case "warmup-s" -> builder.warmup(Duration.ofSeconds(Long.parseLong(value)));
+                case "endpoints" -> builder.endpoints(Arrays.stream(value.split(","))
+                    .map(LoadEndpoint::from).toList());
+                case "job-function" -> builder.jobFunction(value);
+                case "timeout-s" -> builder.requestTimeout(Duration.ofSeconds(Long.parseLong(value)));
+                case "latency-ms" -> builder.stubLatencyMs(Long.parseLong(value));
+                case "jobs" -> builder.stubJobs(Integer.parseInt(value));
+                case "failure-rate" -> builder.stubFailureRate(Double.parseDouble(value));
+                case "image" -> builder.image(value);
+                case "jdbc-url" -> builder.jdbcUrl(value);
+                case "username" -> builder.username(value);
+                case "password" -> builder.password(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.scrapper.benchmark.loadtest;
+
+import com.scrapper.benchmark.board.StandInBoardOptions;
+import com.scrapper.benchmark.board.StandInJob;
+import com.scrapper.model.Job;
+import com.scrapper.service.ApplyUrlScraperService;
+import com.scrapper.service.JobCreationService;
+import com.scrapper.service.ScrapeFailedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Скрапер без браузера для навантажувального тесту REST API: після заданої затримки повертає
+ * синтетичні вакансії підставної дошки. Кожен виклик дає нові URL, тож збереження теж навантажує базу.
+ * Активний тільки з профілем loadtest і лише на класпасі бенчмарків.
+ */
+@Service
+@Primary
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class StubApplyUrlScraperService implements ApplyUrlScraperService {
+
+    @Value("${scraping.loadtest.latency-ms:200}")
+    private long latencyMs;
+
+    /**
+     * Випадкове відхилення затримки, +- мілісекунд
+     */
+    @Value("${scraping.loadtest.latency-jitter-ms:50}")
+    private long latencyJitterMs;
+
+    @Value("${scraping.loadtest.jobs:50}")
+    private int jobsPerCall;
+
+    /**
+     * Частка викликів, що завершуються винятком (перевірка шляху помилки контролера)
+     */
+    @Value("${scraping.loadtest.failure-rate:0}")
+    private double failureRate;
+
+    private final JobCreationService jobCreationService;
+    private final AtomicLong calls = new AtomicLong();
+
+    @Override
+    public List<String> fetchApplyUrls(List<String> jobFunctions) {
+        return scrapeAndCreateJobs(jobFunctions).stream().map(Job::getJobPageUrl).toList();
+    }
+
+    @Override
+    public List<Job> scrapeAndCreateJobs(List<String> jobFunctions) {
+        long call = calls.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long jitter = latencyJitterMs > 0 ? random.nextLong(-latencyJitterMs, latencyJitterMs + 1) : 0;
+        try {
+            Thread.sleep(Math.max(0, latencyMs + jitter));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Stub scrape interrupted", e);
+        }
+        if (failureRate > 0 && random.nextDouble() < failureRate) {
+            throw new ScrapeFailedException("Stub scrape failure #" + call);
+        }
+
+        String function = jobFunctions.isEmpty() ? "Software Engineering" : jobFunctions.get(0);
+        List<StandInJob> source = StandInJob.generate(StandInBoardOptions.builder()
+            .totalJobs(jobsPerCall)
+            .seed(call)
+            .jobFunctions(List.of(function))
+            .build());
+        List<Job> jobs = new ArrayList<>(source.size());
+        for (StandInJob job : source) {
+            jobs.add(jobCreationService.createJobWithAllData(
+                // Номер виклику в URL - кожен виклик зберігає нові вакансії
+                "https://jobs.techstars.com/companies/" + job.companySlug() + "/jobs/" + call + "-" + job.id(),
+                job.title(),
+                job.company(),
+                null,
+                job.location(),
+                job.tags(),
+                job.postedAt().getEpochSecond(),
+                function,
+                job.description()));
+        }
+        log.debug("Stub scrape #{} returned {} jobs for {}", call, jobs.size(), jobFunctions);
+        return jobs;
+    }
+}
@@ -0,0 +1,35 @@
+package com.scrapper.config;
+
+import com.scrapper.dto.ActiveCrawlDto;
+import com.scrapper.service.crawl.ActiveCrawlRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/crawls: GET - активні скрапінги з прогресом прокрутки та станом браузера,
+ * DELETE /actuator/crawls/{id} - скасувати скрапінг на будь-якому етапі
+ */
+@Component
+@Endpoint(id = "crawls")
+@RequiredArgsConstructor
+public class ActiveCrawlsEndpoint {
+
+    private final ActiveCrawlRegistry activeCrawlRegistry;
+
+    @ReadOperation
+    public List<ActiveCrawlDto> active() {
+        return activeCrawlRegistry.list();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> cancel(@Selector long id) {
+        return Map.of("id", id, "cancelled", activeCrawlRegistry.cancel(id));
+    }
+}
@@ -0,0 +1,33 @@
+package com.scrapper.config;
+
+import com.scrapper.validation.CardClassificationRules;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CardClassificationConfig {
+    @Value("${scraping.validation.navigation-keywords:}")
+    private List<String> navigationKeywords;
+
+    @Value("${scraping.validation.job-keywords:}")
+    private List<String> jobKeywords;
+
+    @Value("${scraping.validation.min-text-length:" + CardClassificationRules.DEFAULT_MIN_TEXT_LENGTH + "}")
+    private int minTextLength;
+
+    @Bean
+    public CardClassificationRules cardClassificationRules() {
+        return new CardClassificationRules(
+            orDefault(navigationKeywords, CardClassificationRules.defaultNavigationKeywords()),
+            orDefault(jobKeywords, CardClassificationRules.defaultJobKeywords()),
+            minTextLength,
+            CardClassificationRules.DEFAULT_JOB_LINK_SELECTOR);
+    }
+
+    private List<String> orDefault(List<String> keywords, List<String> defaults) {
+        boolean configured = keywords != null && keywords.stream().anyMatch(k -> !k.isBlank());
+        return configured ? keywords : defaults;
+    }
+}
@@ -0,0 +1,37 @@
+package com.scrapper.config;
+
+import com.scrapper.service.jfr.FlightRecorderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/flightrecorder: GET - стан запису, POST {"action": "start"|"stop", "settings": "profile"}
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+@RequiredArgsConstructor
+public class FlightRecorderEndpoint {
+
+    private final FlightRecorderService flightRecorderService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return flightRecorderService.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(String action, @Nullable String settings) throws Exception {
+        return switch (action) {
+            case "start" -> flightRecorderService.start(settings);
+            case "stop" -> flightRecorderService.stop();
+            default -> throw new IllegalArgumentException("Unknown action '" + action
+                + "', expected start or stop");
+        };
+    }
+}
@@ -1,15 +1,25 @@
 package com.scrapper.controller;
 
+import com.scrapper.dto.ArchiveReplayDto;
+import com.scrapper.dto.CrawlProfileDto;
 import com.scrapper.dto.ScrapeRequestDto;
 import com.scrapper.dto.ScrapeResponseDto;
 import com.scrapper.model.Job;
 import com.scrapper.service.ApplyUrlScraperService;
 import com.scrapper.service.JobCreationService;
 import com.scrapper.service.JobIngestService;
+import com.scrapper.service.ScrapeFailedException;
+import com.scrapper.service.archive.ArchiveReplayService;
+import com.scrapper.service.crawl.CrawlProfile;
+import com.scrapper.service.crawl.CrawlRunService;
+import com.scrapper.service.crawl.JobFunctionCatalogService;
+import com.scrapper.validation.UnknownJobFunctionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,20 +32,70 @@ public class ScrapeController {
     private final ApplyUrlScraperService scraperService;
     private final JobIngestService jobIngestService;
     private final JobCreationService jobCreationService;
+    private final JobFunctionCatalogService jobFunctionCatalogService;
+    private final CrawlRunService crawlRunService;
+    private final ArchiveReplayService archiveReplayService;
 
     @PostMapping("/scrape")
     public ScrapeResponseDto scrapeAndSaveJobs(@Valid @RequestBody ScrapeRequestDto request) {
-            List<Job> jobs = scraperService.scrapeAndCreateJobs(
+            // Невідомі функції відхиляються до запуску браузера
+            List<String> jobFunctions = jobFunctionCatalogService.normalize(
                     request.getJobFunctions()
             );
-            if (jobs.isEmpty()) {
-                return jobCreationService.createEmptyResponse("No jobs found during scraping");
+            CrawlProfile profile = crawlRunService.begin("api", jobFunctions);
+            ScrapeResponseDto response;
+            try {
+                List<Job> jobs = scraperService.scrapeAndCreateJobs(jobFunctions);
+                if (jobs.isEmpty()) {
+                    response = jobCreationService.createEmptyResponse("No jobs found during scraping");
+                } else {
+                    int savedCount = jobIngestService.saveJobs(jobs);
+
+                    List<String> jobUrls = jobs.stream()
+                            .map(Job::getJobPageUrl)
+                            .collect(Collectors.toList());
+                    response = jobCreationService.createSuccessResponse(jobUrls, savedCount);
+                }
+            } catch (RuntimeException e) {
+                crawlRunService.finish(profile, "failed", 0, 0);
+                throw e;
+            }
+
+            CrawlProfileDto profileDto = crawlRunService.finish(profile,
+                    response.getTotalJobsFound() == 0 ? "empty" : "success",
+                    response.getTotalJobsFound(), response.getJobsSaved());
+            if (request.isIncludeProfile()) {
+                response.setProfile(profileDto);
             }
-            int savedCount = jobIngestService.saveJobs(jobs);
+            return response;
+    }
+
+    @GetMapping("/crawl-runs")
+    public List<CrawlProfileDto> recentCrawlRuns(@RequestParam(defaultValue = "20") int limit) {
+            return crawlRunService.recent(limit);
+    }
+
+    /**
+     * Повторна екстракція зі збережених сторінок без браузера
+     *
+     * @param since ISO момент, з якого брати записи архіву (за замовчуванням - весь архів)
+     */
+    @PostMapping("/archive/replay")
+    public ArchiveReplayDto replayArchive(@RequestParam(required = false) Instant since) {
+            return archiveReplayService.replay(since);
+    }
+
+    @ExceptionHandler(UnknownJobFunctionException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ScrapeResponseDto handleUnknownJobFunction(UnknownJobFunctionException e) {
+            log.warn("⚠️ Rejected scrape request: {}", e.getMessage());
+            return jobCreationService.createErrorResponse(e.getMessage());
+    }
 
-            List<String> jobUrls = jobs.stream()
-                    .map(Job::getJobPageUrl)
-                    .collect(Collectors.toList());
-            return jobCreationService.createSuccessResponse(jobUrls, savedCount);
+    @ExceptionHandler(ScrapeFailedException.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public ScrapeResponseDto handleScrapeFailed(ScrapeFailedException e) {
+            log.error("❌ Scrape request failed: {}", e.getMessage());
+            return jobCreationService.createErrorResponse(e.getMessage());
     }
 }
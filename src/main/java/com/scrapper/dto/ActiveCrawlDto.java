@@ -0,0 +1,30 @@
+package com.scrapper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveCrawlDto {
+    private long id;
+    private String source;
+    private List<String> jobFunctions;
+    private String stage;
+    private long elapsedMs;
+    private int cardsLoaded;
+    private int declaredTotal;
+    private int scrollIterations;
+    private int scrollsWithoutProgress;
+    private int maxScrollsWithoutProgress;
+    private long scrollDelayMs;
+    private long msSinceProgress;
+    private long browserPid;
+    private long browserRssKb;
+    private boolean cancelRequested;
+}
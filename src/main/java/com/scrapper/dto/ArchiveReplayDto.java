@@ -0,0 +1,21 @@
+package com.scrapper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveReplayDto {
+    private int records;
+    private int failedRecords;
+    private int cards;
+    private int jobs;
+    private int inserted;
+    private int updated;
+    private int threads;
+    private long durationMs;
+}
@@ -0,0 +1,31 @@
+package com.scrapper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlProfileDto {
+    private long id;
+    private String source;
+    private List<String> jobFunctions;
+    private long startedAt;
+    private long durationMs;
+    private String outcome;
+    private int jobsFound;
+    private int jobsSaved;
+    private Map<String, Long> stageMillis;
+    private long webdriverCommands;
+    private int scrollIterations;
+    private long sleepMs;
+    private long dbStatements;
+    private long writeStatements;
+    private long peakChromeRssKb;
+}
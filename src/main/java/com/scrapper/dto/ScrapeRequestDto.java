@@ -16,4 +16,6 @@ import java.util.List;
 public class ScrapeRequestDto {
     @NotEmpty
     private List<String> jobFunctions;
+    // Додати до відповіді профіль продуктивності скрапінгу
+    private boolean includeProfile;
 }
@@ -1,5 +1,6 @@
 package com.scrapper.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,4 +18,6 @@ public class ScrapeResponseDto {
     private int totalJobsFound;
     private int jobsSaved;
     private List<String> jobUrls;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CrawlProfileDto profile;
 }
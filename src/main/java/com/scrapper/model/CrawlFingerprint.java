@@ -0,0 +1,33 @@
+package com.scrapper.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Відбиток останнього повного скрапінгу для набору фільтрів:
+ * заявлена кількість вакансій ("Showing X jobs") та хеш URL першої сторінки карток.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "crawl_fingerprints")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlFingerprint {
+    @Id
+    private String filterKey;
+    private int declaredCount;
+    private String firstPageHash;
+    private long crawledAt;
+    private long lastProbeAt;
+    private String lastDecision;
+    private int skippedCrawls;
+}
@@ -0,0 +1,51 @@
+package com.scrapper.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Профіль одного скрапінгу для аналізу продуктивності в часі.
+ * Час етапів зберігається як JSON {"stage": millis}; started_at - Unix Timestamp (секунди).
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "crawl_runs")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+    @Column(nullable = false)
+    private String source;
+    @Column(nullable = false)
+    private String jobFunctions;
+    @Column(nullable = false)
+    private long startedAt;
+    @Column(nullable = false)
+    private long durationMs;
+    @Column(nullable = false)
+    private String outcome;
+    private int jobsFound;
+    private int jobsSaved;
+    private long webdriverCommands;
+    private int scrollIterations;
+    private long sleepMs;
+    private long dbStatements;
+    private long writeStatements;
+    // -1, якщо RSS не вдалося виміряти (не Linux)
+    private long peakChromeRssKb;
+    @Column(nullable = false)
+    private String stageMillis;
+}
@@ -0,0 +1,42 @@
+package com.scrapper.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Стан планувальника для однієї job function.
+ * Всі часові мітки зберігаються як Unix Timestamp (секунди), як і posted_date у jobs.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "crawl_schedule_state")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlScheduleState {
+    @Id
+    @Enumerated(EnumType.STRING)
+    private JobFunction jobFunction;
+    // Час останнього успішного запуску - початок вікна, за яке рахується швидкість
+    private long lastRunAt;
+    @Column(nullable = false)
+    private long nextRunAt;
+    @Column(nullable = false)
+    private long intervalSeconds;
+    // EWMA кількості нових вакансій за годину; -1 поки немає жодного запуску
+    @Column(nullable = false)
+    private double newJobsPerHour;
+    private int lastNewJobs;
+    private int totalRuns;
+    private String lastOutcome;
+}
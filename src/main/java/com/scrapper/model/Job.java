@@ -1,5 +1,6 @@
 package com.scrapper.model;
 
+import com.scrapper.util.EpochDateParser;
 import com.scrapper.validation.Validation;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -12,8 +13,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -21,6 +20,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
 @Getter
@@ -31,6 +31,11 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 public class Job {
+    /**
+     * postedDate для вакансії, дата публікації якої невідома (нерозпізнаний рядок дати)
+     */
+    public static final long UNKNOWN_POSTED_DATE = 0;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
@@ -52,25 +57,30 @@ public class Job {
     @Column(nullable = false)
     private String description;
 
+    // Колекції пакета вакансій довантажуються одним запитом, а не окремо для кожної (N+1)
     @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = 500)
     @CollectionTable(name = "job_locations", joinColumns = @JoinColumn(name = "job_id"))
     @Column(name = "location")
     @Builder.Default
     private List<String> locations = new ArrayList<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = 500)
     @CollectionTable(name = "job_tags", joinColumns = @JoinColumn(name = "job_id"))
     @Column(name = "tag_name")
     @Builder.Default
     private List<String> tags = new ArrayList<>();
 
-    //LocalDateTime в Unix Timestamp
-    public void setPostedDateFromLocalDateTime(LocalDateTime localDateTime) {
-        if (localDateTime != null) {
-            this.postedDate = localDateTime.toEpochSecond(ZoneOffset.UTC);
-        } else {
-            this.postedDate = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
-        }
+    /**
+     * Unix секунди від EpochDateParser; UNPARSED зберігається як UNKNOWN_POSTED_DATE, а не поточний час
+     */
+    public void setPostedDateFromEpochSeconds(long epochSeconds) {
+        this.postedDate = epochSeconds != EpochDateParser.UNPARSED ? epochSeconds : UNKNOWN_POSTED_DATE;
+    }
+
+    public boolean hasKnownPostedDate() {
+        return postedDate > UNKNOWN_POSTED_DATE;
     }
 
     public void addTag(String tag){
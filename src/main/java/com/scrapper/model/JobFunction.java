@@ -28,5 +28,29 @@ public enum JobFunction {
         return displayName;
     }
 
+    /**
+     * Знаходить функцію за назвою з запиту або з dropdown сайту: ім'я константи чи displayName,
+     * без урахування регістру, пробілів, "&" та розділювачів ("it", "people-hr", "People & HR")
+     */
+    public static Optional<JobFunction> fromLabel(String label) {
+        if (label == null || label.isBlank()) {
+            return Optional.empty();
+        }
+        String key = normalize(label);
+        return Arrays.stream(values())
+            .filter(function -> normalize(function.name()).equals(key)
+                || normalize(function.displayName).equals(key))
+            .findFirst();
+    }
 
+    private static String normalize(String label) {
+        StringBuilder key = new StringBuilder(label.length());
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
 }
@@ -0,0 +1,27 @@
+package com.scrapper.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Опція фільтра "Job function" з останнього зібраного каталогу: назва на сайті та data-testid
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "job_function_options")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobFunctionOption {
+    @Id
+    private String label;
+    private String optionId;
+    private long refreshedAt;
+}
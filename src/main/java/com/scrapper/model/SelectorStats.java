@@ -0,0 +1,48 @@
+package com.scrapper.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Статистика роботи CSS селектора з групи ScrapingSelectors (наприклад, JOB_CARD):
+ * скільки разів він дав валідні елементи, скільки разів ні та скільки це коштувало
+ */
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "selector_stats",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"selector_group", "selector"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SelectorStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+    @Column(nullable = false)
+    private String selectorGroup;
+    @Column(nullable = false)
+    private String selector;
+    private int hits;
+    private int misses;
+    private int consecutiveMisses;
+    private double avgCostMillis;
+    private int lastValidCount;
+    private long lastSuccessAt;
+
+    public double hitRate() {
+        int attempts = hits + misses;
+        return attempts == 0 ? 0 : (double) hits / attempts;
+    }
+}
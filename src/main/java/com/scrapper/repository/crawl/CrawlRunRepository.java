@@ -0,0 +1,14 @@
+package com.scrapper.repository.crawl;
+
+import com.scrapper.model.CrawlRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CrawlRunRepository extends JpaRepository<CrawlRun, Long> {
+
+    List<CrawlRun> findAllByOrderByStartedAtDescIdDesc(Pageable pageable);
+}
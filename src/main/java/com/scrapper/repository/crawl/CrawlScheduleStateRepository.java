@@ -0,0 +1,10 @@
+package com.scrapper.repository.crawl;
+
+import com.scrapper.model.CrawlScheduleState;
+import com.scrapper.model.JobFunction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CrawlScheduleStateRepository extends JpaRepository<CrawlScheduleState, JobFunction> {
+}
@@ -0,0 +1,9 @@
+package com.scrapper.repository.crawl;
+
+import com.scrapper.model.JobFunctionOption;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobFunctionOptionRepository extends JpaRepository<JobFunctionOption, String> {
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,12 @@ import java.util.Optional;
 public interface JobRepository extends JpaRepository<Job, Long> {
 
     boolean existsByJobPageUrl(String jobPageUrl);
+
+    @Query("select j.jobPageUrl from Job j where j.jobPageUrl in :urls")
+    List<String> findExistingJobPageUrls(@Param("urls") Collection<String> urls);
+
+    List<Job> findAllByJobPageUrlIn(Collection<String> jobPageUrls);
+
+    @Query("select max(j.postedDate) from Job j where lower(j.laborFunction) in :functions")
+    Optional<Long> findLatestPostedDate(@Param("functions") Collection<String> functions);
 }
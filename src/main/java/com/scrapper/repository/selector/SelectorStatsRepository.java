@@ -0,0 +1,13 @@
+package com.scrapper.repository.selector;
+
+import com.scrapper.model.SelectorStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SelectorStatsRepository extends JpaRepository<SelectorStats, Long> {
+
+    List<SelectorStats> findBySelectorGroup(String selectorGroup);
+}
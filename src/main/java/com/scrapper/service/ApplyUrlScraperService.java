@@ -8,6 +8,8 @@ public interface ApplyUrlScraperService {
     
     /**
      * Скрапити та створити Job об'єкти з реальними даними
+     *
+     * @throws ScrapeFailedException якщо скрапінг не вдався; порожній список - вакансій справді немає
      */
     List<Job> scrapeAndCreateJobs(List<String> jobFunctions);
 }
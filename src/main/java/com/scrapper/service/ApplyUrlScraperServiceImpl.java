@@ -3,24 +3,52 @@ package com.scrapper.service;
 import com.scrapper.model.Job;
 import com.scrapper.service.criteriaServices.DescriptionIngestService;
 import com.scrapper.util.ScrapingSelectors;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.scrapper.service.archive.PageArchiveService;
+import com.scrapper.service.crawl.CrawlMetrics;
+import com.scrapper.service.jfr.CardExtractionEvent;
+import com.scrapper.service.crawl.CrawlProbeService;
+import com.scrapper.service.crawl.CrawlProfile;
+import com.scrapper.service.crawl.FilterUrlResolver;
+import com.scrapper.service.crawl.IncrementalCrawlService;
+import com.scrapper.service.crawl.JobDetailFunctionLookup;
+import com.scrapper.service.crawl.JobFunctionPartitioner;
+import com.scrapper.service.crawl.KnownJobFrontier;
+import com.scrapper.service.crawl.SelectorStrategyCache;
+import com.scrapper.service.extraction.CardData;
+import com.scrapper.service.extraction.CardParseCache;
+import com.scrapper.service.extraction.ExtractionBackend;
+import com.scrapper.service.extraction.ExtractionPlan;
+import com.scrapper.service.extraction.ExtractionPlanService;
 import com.scrapper.service.criteriaServices.DataExtractionService;
 import com.scrapper.service.criteriaServices.DateParsingService;
+import com.scrapper.service.webdriver.CrawlCancelledException;
 import com.scrapper.service.webdriver.WebDriverService;
 
 
@@ -53,6 +81,29 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
     @Value("${scraping.selenium.scroll.max-no-new-jobs:3}")
     private int maxNoNewJobsAttempts;
 
+    @Value("${scraping.stream.enabled:false}")
+    private boolean streamEnabled;
+
+    @Value("${scraping.union.enabled:false}")
+    private boolean unionEnabled;
+
+    @Value("${scraping.pipeline.enabled:false}")
+    private boolean pipelineEnabled;
+
+    @Value("${scraping.extraction.backend:legacy}")
+    private String extractionBackendName;
+
+    private ExtractionBackend extractionBackend;
+
+    @Value("${scraping.extraction.batch-size:100}")
+    private int extractionBatchSize;
+
+    /**
+     * Повертає outerHTML пакета карток одним викликом (Jsoup бекенд)
+     */
+    private static final String OUTER_HTML_SCRIPT =
+        "return arguments[0].map(element => element.outerHTML);";
+
     /**
      * ✅ КЛЮЧОВА КОНСТАНТА: Префікс URL компаній Techstars
      * <p>
@@ -73,12 +124,55 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
     private final DataExtractionService dataExtractionService;
     private final WebDriverService webDriverService;
     private final PageInteractionService pageInteractionService;
+    private final CrawlProbeService crawlProbeService;
+    private final IncrementalCrawlService incrementalCrawlService;
+    private final SelectorStrategyCache selectorStrategyCache;
+    private final FilterUrlResolver filterUrlResolver;
+    private final JobDetailFunctionLookup jobDetailFunctionLookup;
+    private final ExtractionPlanService extractionPlanService;
+    private final CardParseCache cardParseCache;
+    private final PageArchiveService pageArchiveService;
+    private final CrawlMetrics crawlMetrics;
+
+    /**
+     * Бекенд екстракції розбирається один раз: невідоме значення зупиняє старт застосунку
+     */
+    @PostConstruct
+    void resolveExtractionBackend() {
+        extractionBackend = ExtractionBackend.from(extractionBackendName);
+        log.info("🧩 Card extraction backend: {}", extractionBackend);
+    }
 
     private WebDriver initializeWebDriver() {
         log.info("🔧 Initializing Chrome WebDriver using WebDriverService...");
         return webDriverService.createWebDriver();
     }
 
+    /**
+     * Відкриває дошку: одразу з фільтрами через deep link, якщо схема URL вже відома,
+     * інакше - базову сторінку (фільтри потім застосовуються кліками)
+     */
+    private boolean openBoard(WebDriver driver, List<String> jobFunctions) {
+        Optional<String> deepLink = filterUrlResolver.resolve(jobFunctions);
+        Timer.Sample sample = crawlMetrics.start(CrawlMetrics.Stage.PAGE_LOAD);
+        if (deepLink.isEmpty()) {
+            driver.get(baseUrl);
+            crawlMetrics.stop(sample, CrawlMetrics.Stage.PAGE_LOAD, jobFunctions, "base_url");
+            return false;
+        }
+        log.info("🔗 Opening filtered listing directly: {}", deepLink.get());
+        driver.get(deepLink.get());
+        boolean cardsVisible = pageInteractionService.awaitJobCards(driver,
+            Duration.ofSeconds(timeoutSeconds));
+        crawlMetrics.stop(sample, CrawlMetrics.Stage.PAGE_LOAD, jobFunctions,
+            cardsVisible ? "deep_link" : "deep_link_timeout");
+        // Без кліків по dropdown каталог інакше не оновлювався б, поки працюють deep links
+        if (cardsVisible) {
+            pageInteractionService.refreshJobFunctionCatalog(driver);
+        }
+        return true;
+    }
+
     @Override
     public List<String> fetchApplyUrls(List<String> jobFunctions) {
         Objects.requireNonNull(jobFunctions, "jobFunctions cannot be null");
@@ -90,9 +184,10 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
         try {
             driver = initializeWebDriver();
             log.info("📍 Navigating to base URL: {}", baseUrl);
-            driver.get(baseUrl);
-            log.info("⏳ Quick page load...");
-            pageInteractionService.sleep(3000);
+            if (!openBoard(driver, jobFunctions)) {
+                log.info("⏳ Quick page load...");
+                pageInteractionService.sleep(3000);
+            }
             String pageTitle = driver.getTitle();
             String currentUrl = driver.getCurrentUrl();
             log.info("📄 Page loaded - Title: '{}', URL: '{}'", pageTitle, currentUrl);
@@ -118,7 +213,7 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
 
         } catch (Exception e) {
             log.error("❌ Error during Selenium scraping", e);
-            throw new RuntimeException("Failed to scrape jobs with Selenium", e);
+            throw new ScrapeFailedException("Failed to scrape jobs with Selenium", e);
         } finally {
             if (driver != null) {
                 webDriverService.closeWebDriver(driver);
@@ -136,17 +231,20 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
             driver = initializeWebDriver();
             log.info("🌐 WebDriver initialized successfully");
 
-            driver.get(baseUrl);
+            // В конвеєрному режимі функції скрапляться по одній, починаючи з першої
+            boolean pipelined = isPipelined(jobFunctions);
             log.info("🌐 Moving to: {}", baseUrl);
-
-            log.info("🔍 Waiting for load page...");
-            pageInteractionService.sleep(5000);
+            if (!openBoard(driver, pipelined ? jobFunctions.subList(0, 1) : jobFunctions)) {
+                log.info("🔍 Waiting for load page...");
+                pageInteractionService.sleep(5000);
+            }
 
             log.info("🔍 Quick job cards searching...");
             boolean pageLoaded = false;
 
-            // Спробуємо тільки основні селектори з коротким таймаутом
-            for (String selector : ScrapingSelectors.JOB_CARD) {
+            // Спробуємо селектори з коротким таймаутом, першим - той, що спрацював минулого разу
+            for (String selector : selectorStrategyCache.orderedSelectors("JOB_CARD",
+                ScrapingSelectors.JOB_CARD)) {
                 try {
                     // Зменшуємо таймаут до 3 секунд
                     WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(3));
@@ -166,15 +264,29 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
 
             // ✅ СПРОЩЕНА ЛОГІКА: Використовуємо тільки головну сторінку
             log.info("🔍 Using main page scraping logic: 1) job functions → 2) Load More → 3) scrolling → 4) URL → 5) company prefix");
-            List<Job> jobs = scrapeAllJobsWithImprovedLogic(driver, jobFunctions);
-
+            List<Job> jobs = pipelined
+                ? scrapeFunctionsPipelined(driver, jobFunctions)
+                : scrapeAllJobsWithImprovedLogic(driver, jobFunctions);
+
+            // Скасування могло бути проковтнуте обробкою окремих карток - частковий результат не повертаємо
+            CrawlProfile profile = CrawlProfile.current();
+            if (profile != null && profile.isCancelRequested()) {
+                throw new CrawlCancelledException(profile.getId(), "returning " + jobs.size() + " jobs");
+            }
             log.info("🎯 Job scraping completed with NEW LOGIC. Created {} Job objects with real "
                 + "data", jobs.size());
             return jobs;
 
+        } catch (ScrapeFailedException e) {
+            log.error("❌ Job scraping failed: {}", e.getMessage());
+            throw e;
+        } catch (CrawlCancelledException e) {
+            log.warn("🛑 Job scraping cancelled: {}", e.getMessage());
+            throw new ScrapeFailedException(e.getMessage(), e);
         } catch (Exception e) {
+            // Порожній список тут сховав би зламаний скрапінг під "нових вакансій немає"
             log.error("❌ Error during job scraping: {}", e.getMessage(), e);
-            return new ArrayList<>();
+            throw new ScrapeFailedException("Failed to scrape jobs with Selenium", e);
         } finally {
             if (driver != null) {
                 webDriverService.closeWebDriver(driver);
@@ -184,6 +296,84 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
 
 
 
+    private boolean isPipelined(List<String> jobFunctions) {
+        return pipelineEnabled && !unionEnabled && jobFunctions != null && jobFunctions.size() > 1;
+    }
+
+    /**
+     * Конвеєрний скрапінг кількох функцій по одній в одному браузері: поки екстрагуються картки
+     * поточної функції, у другій вкладці вже завантажується відфільтрований список наступної
+     */
+    private List<Job> scrapeFunctionsPipelined(WebDriver driver, List<String> jobFunctions) {
+        List<Job> jobs = new ArrayList<>();
+        String prefetchedTab = null;
+        long prefetchStartedAt = 0;
+
+        for (int i = 0; i < jobFunctions.size(); i++) {
+            List<String> current = List.of(jobFunctions.get(i));
+            if (i > 0) {
+                if (prefetchedTab != null) {
+                    // Вкладка попередньої функції більше не потрібна
+                    driver.close();
+                    driver.switchTo().window(prefetchedTab);
+                    log.info("🚚 Switched to prefetched tab for {} (loading in background for {} ms)",
+                        current, System.currentTimeMillis() - prefetchStartedAt);
+                    pageInteractionService.awaitJobCards(driver, Duration.ofSeconds(timeoutSeconds));
+                } else if (!openBoard(driver, current)) {
+                    pageInteractionService.sleep(5000);
+                }
+            }
+
+            applyJobFunctionFilters(driver, current);
+
+            // Фільтри поточної функції застосовано (і схема deep link вже відома) - запускаємо
+            // завантаження наступної функції, поки триває прокрутка та екстракція поточної
+            prefetchedTab = null;
+            if (i + 1 < jobFunctions.size()) {
+                prefetchStartedAt = System.currentTimeMillis();
+                prefetchedTab = prefetchInNewTab(driver, jobFunctions.get(i + 1));
+            }
+
+            List<Job> functionJobs = collectJobs(driver, current);
+            log.info("🚚 Pipelined crawl: {} finished with {} jobs ({}/{})", current,
+                functionJobs.size(), i + 1, jobFunctions.size());
+            jobs.addAll(functionJobs);
+        }
+        return jobs;
+    }
+
+    /**
+     * Відкриває відфільтрований список функції в новій вкладці без очікування завантаження та
+     * повертає фокус WebDriver на поточну вкладку
+     *
+     * @return handle нової вкладки або null, якщо deep link ще недоступний
+     */
+    private String prefetchInNewTab(WebDriver driver, String jobFunction) {
+        Optional<String> deepLink = filterUrlResolver.resolve(List.of(jobFunction));
+        if (deepLink.isEmpty()) {
+            return null;
+        }
+        String currentTab = driver.getWindowHandle();
+        String newTab = null;
+        try {
+            driver.switchTo().newWindow(WindowType.TAB);
+            newTab = driver.getWindowHandle();
+            // Навігація через JS не чекає завантаження сторінки
+            ((JavascriptExecutor) driver).executeScript("window.location.href = arguments[0];",
+                deepLink.get());
+            log.info("🚚 Prefetching '{}' in a background tab", jobFunction);
+            return newTab;
+        } catch (Exception e) {
+            log.warn("⚠️ Could not prefetch '{}' in a new tab: {}", jobFunction, e.getMessage());
+            if (newTab != null && !newTab.equals(currentTab)) {
+                driver.close();
+            }
+            return null;
+        } finally {
+            driver.switchTo().window(currentTab);
+        }
+    }
+
     /**
      * Основна логіка скрапінгу з головної сторінки:
      * 1. Застосування фільтрів job functions
@@ -191,22 +381,39 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
      * 3. Обробка карток та збереження вакансій
      */
     private List<Job> scrapeAllJobsWithImprovedLogic(WebDriver driver, List<String> jobFunctions) {
+        applyJobFunctionFilters(driver, jobFunctions);
+        return collectJobs(driver, jobFunctions);
+    }
+
+    /**
+     * Застосовує фільтри job functions: через deep link, якщо вони вже в URL, інакше кліками
+     */
+    private void applyJobFunctionFilters(WebDriver driver, List<String> jobFunctions) {
         log.info("🔍 Застосовуємо фільтри для job functions: {}", jobFunctions);
         
         boolean anyFilterApplied = false;
-        
-        if (jobFunctions != null && !jobFunctions.isEmpty()) {
+        List<String> appliedFunctions = new ArrayList<>();
+
+        if (jobFunctions != null && !jobFunctions.isEmpty()
+            && filterUrlResolver.isApplied(driver.getCurrentUrl(), jobFunctions)) {
+            // Фільтри вже в URL - dropdown та паузи після кліків не потрібні
+            log.info("🔗 Filters {} applied via deep link, skipping dropdown clicks", jobFunctions);
+        } else if (jobFunctions != null && !jobFunctions.isEmpty()) {
+            if (filterUrlResolver.hasScheme()) {
+                filterUrlResolver.invalidate("board did not keep filters from "
+                    + driver.getCurrentUrl());
+            }
             for (String function : jobFunctions) {
+                Timer.Sample sample = crawlMetrics.start(CrawlMetrics.Stage.FILTER_CLICK);
                 boolean filterApplied = pageInteractionService.clickJobFunctionFilter(driver, function);
+                crawlMetrics.stop(sample, CrawlMetrics.Stage.FILTER_CLICK, List.of(function),
+                    filterApplied ? "applied" : "failed");
                 
                 if (filterApplied) {
                     anyFilterApplied = true;
+                    appliedFunctions.add(function);
                     log.info("✅ Фільтр '{}' застосовано", function);
-                    try {
-                        Thread.sleep(3000);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
+                    pageInteractionService.sleep(3000);
                 } else {
                     log.warn("⚠️ Не вдалося застосувати фільтр '{}'", function);
                 }
@@ -214,119 +421,415 @@ public class ApplyUrlScraperServiceImpl implements ApplyUrlScraperService {
         }
 
         if (anyFilterApplied) {
-            try {
-                Thread.sleep(5000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            pageInteractionService.sleep(5000);
+            // Вивчаємо з адреси сторінки, як дошка кодує фільтри, щоб наступного разу
+            // відкрити відфільтрований список одним переходом
+            if (appliedFunctions.size() == jobFunctions.size()) {
+                filterUrlResolver.learn(driver.getCurrentUrl(), appliedFunctions);
             }
         }
+    }
 
+    /**
+     * Завантажує всі вакансії з уже відфільтрованої сторінки та створює Job
+     */
+    private List<Job> collectJobs(WebDriver driver, List<String> jobFunctions) {
         // Отримуємо загальну кількість вакансій
         log.info("🔍 Отримуємо загальну кількість вакансій...");
         int totalJobsExpected = pageInteractionService.getTotalJobCountFromTextAfterFiltering(driver);
 
+        // Дешевий probe: якщо кількість та перша сторінка не змінились - повний скрапінг не потрібен
+        CrawlProbeService.ProbeResult probe = null;
+        if (crawlProbeService.isEnabled()) {
+            probe = crawlProbeService.probe(driver, jobFunctions, totalJobsExpected);
+            if (probe.unchanged()) {
+                log.info("⏭️ Nothing changed since last crawl for {}, skipping full crawl",
+                    jobFunctions);
+                return new ArrayList<>();
+            }
+        }
+
         // Завантажуємо всі доступні вакансії
         log.info("🔍 Завантажуємо всі доступні вакансії (очікується: {})...", totalJobsExpected);
-        pageInteractionService.loadAllAvailableJobs(driver, totalJobsExpected);
-        log.info("🔍 Завантаження вакансій завершено");
+        KnownJobFrontier frontier = incrementalCrawlService.openFrontier(jobFunctions);
+        CardCollector collector = new CardCollector(driver, jobFunctions, frontier);
+        // Довантаження під час прокрутки потрапляє в архів разом з фінальною сторінкою
+        pageArchiveService.installCapture(driver);
+
+        Timer.Sample loadSample = crawlMetrics.start(CrawlMetrics.Stage.LOAD_ALL_JOBS);
+        if (streamEnabled) {
+            // Потокова обробка: нові картки кожного скролу екстрагуються одразу
+            pageInteractionService.loadAllAvailableJobs(driver, totalJobsExpected, frontier,
+                batch -> collector.acceptAll(
+                    batch.stream().map(PageInteractionService.LoadedCard::element).toList(),
+                    batch.stream().map(PageInteractionService.LoadedCard::url).toList()));
+            crawlMetrics.stop(loadSample, CrawlMetrics.Stage.LOAD_ALL_JOBS, jobFunctions, "streamed");
+            log.info("🔍 Завантаження та потокова обробка вакансій завершені");
+            pageArchiveService.archiveCrawl(driver, jobFunctions);
+            if (collector.cards == 0 && totalJobsExpected > 0) {
+                throw new ScrapeFailedException("No job cards streamed with any selector strategy, "
+                    + totalJobsExpected + " declared");
+            }
+        } else {
+            pageInteractionService.loadAllAvailableJobs(driver, totalJobsExpected, frontier);
+            crawlMetrics.stop(loadSample, CrawlMetrics.Stage.LOAD_ALL_JOBS, jobFunctions, "success");
+            log.info("🔍 Завантаження вакансій завершено");
+            // Архівуємо до пошуку карток: якщо селектори зламались, сторінку можна розібрати пізніше
+            pageArchiveService.archiveCrawl(driver, jobFunctions);
+
+            // Шукаємо всі картки вакансій
+            log.info("🔍 Шукаємо всі картки вакансій після завантаження...");
+            Timer.Sample discoverySample = crawlMetrics.start(CrawlMetrics.Stage.CARD_DISCOVERY);
+            List<WebElement> jobCards = pageInteractionService.findJobCardsWithMultipleStrategies(driver);
+            crawlMetrics.stop(discoverySample, CrawlMetrics.Stage.CARD_DISCOVERY, jobFunctions,
+                jobCards.isEmpty() ? "empty" : "success");
+            log.info("📋 Found {} job cards to process", jobCards.size());
+
+            if (jobCards.isEmpty() && totalJobsExpected > 0) {
+                log.error("❌ CRITICAL: No job cards found with any strategy!");
+                throw new ScrapeFailedException("No job cards found with any selector strategy, "
+                    + totalJobsExpected + " declared");
+            }
 
-        // Шукаємо всі картки вакансій
-        log.info("🔍 Шукаємо всі картки вакансій після завантаження...");
-        List<WebElement> jobCards = pageInteractionService.findJobCardsWithMultipleStrategies(driver);
-        List<Job> jobs = new ArrayList<>();
+            List<String> jobUrls = new ArrayList<>(jobCards.size());
+            for (WebElement card : jobCards) {
+                jobUrls.add(pageInteractionService.findDirectJobUrl(card));
+            }
+            collector.acceptAll(jobCards, jobUrls);
+        }
 
-        log.info("📋 Found {} job cards to process", jobCards.size());
+        List<Job> jobs = collector.jobs;
+        // Фінальний звіт
+        log.info("📊 ЗВІТ: {} з {} карток оброблено | URL: {} | Дублікати: {} | Збережено: {} (з префіксом: {}, без префіксу: {}) | Функції: {}",
+            jobs.size(), collector.cards, collector.foundUrls, collector.duplicates, jobs.size(),
+            collector.savedWithCompanyPrefix, collector.savedWithoutCompanyPrefix, jobFunctions);
+        if (frontier != null) {
+            log.info("🧱 Incremental crawl: {} known cards skipped without extraction",
+                collector.skippedKnown);
+        }
+        if (collector.isUnion()) {
+            log.info("🧩 Union crawl partitioned locally: {}", collector.partitioner.summary(jobs));
+            crawlMetrics.countUnresolvedJobFunctions(jobFunctions, collector.partitioner.getUnresolved());
+        }
+        collector.reportParseCache();
 
-        if (jobCards.isEmpty()) {
-            log.error("❌ CRITICAL: No job cards found with any strategy!");
-            return jobs;
+        // Відбиток оновлюється після кожного завершеного повного скрапінгу: в інкрементальному
+        // режимі список порожній, коли всі картки вже відомі, і probe інакше ніколи б не спрацював
+        if (probe != null) {
+            crawlProbeService.recordFullCrawl(probe);
         }
 
-        int passedFunctionFilter = 0;
-        int foundUrls = 0;
-        int savedWithCompanyPrefix = 0;
-        int savedWithoutCompanyPrefix = 0;
+        log.info("🎯 Job scraping completed with MULTIPLE FILTERS LOGIC. Created {} Job objects with real data", jobs.size());
+        return jobs;
+    }
+
+    /**
+     * Обробляє картки пакетами (з пакетного або потокового режиму): дедуплікація за URL,
+     * пропуск вже відомих вакансій, екстракція полів обраним бекендом та створення Job
+     */
+    private class CardCollector {
+        private final WebDriver driver;
+        private final List<String> jobFunctions;
+        private final KnownJobFrontier frontier;
+        private final JobFunctionPartitioner partitioner;
+        private final ExtractionBackend backend;
+        private final ExtractionPlan plan;
+        private final String cacheNamespace;
+        private final Set<String> processedUrls = new HashSet<>();
+        private final List<Job> jobs = new ArrayList<>();
+        private int cacheHits;
+        private int cacheMisses;
+        private long cacheSavedNanos;
+        private long extractionNanos;
+        private int cards;
+        private int foundUrls;
+        private int duplicates;
+        private int skippedKnown;
+        private int savedWithCompanyPrefix;
+        private int savedWithoutCompanyPrefix;
+
+        private CardCollector(WebDriver driver, List<String> jobFunctions, KnownJobFrontier frontier) {
+            this.driver = driver;
+            this.jobFunctions = jobFunctions;
+            this.frontier = frontier;
+            this.partitioner = new JobFunctionPartitioner(
+                jobFunctions != null ? jobFunctions : List.of());
+            this.backend = extractionBackend;
+            this.plan = backend == ExtractionBackend.LEGACY ? null : extractionPlanService.currentPlan();
+            // Закешовані поля валідні тільки для того самого плану екстракції
+            this.cacheNamespace = plan != null ? plan.fingerprint() : "legacy";
+        }
 
-        for (int i = 0; i < jobCards.size(); i++) {
-            try {
-                WebElement card = jobCards.get(i);
+        /**
+         * Кілька функцій скрапляться однією сесією, і функція кожної вакансії визначається окремо
+         */
+        private boolean isUnion() {
+            return unionEnabled && partitioner.isUnion();
+        }
 
-                // Обробляємо всі картки
-                passedFunctionFilter++;
+        private String laborFunctionFor(Supplier<List<String>> cardFunctions, String jobPageUrl) {
+            if (!isUnion()) {
+                return jobFunctions == null || jobFunctions.isEmpty()
+                    ? "Software Engineering" : jobFunctions.get(0);
+            }
+            String function = partitioner.resolveFromCard(cardFunctions.get());
+            if (function == null && jobDetailFunctionLookup.isEnabled()) {
+                function = partitioner.resolveFromDetail(
+                    jobDetailFunctionLookup.fetchJobFunctions(jobPageUrl));
+            }
+            return function != null ? function : partitioner.unresolved();
+        }
 
-                // Пошук URL
-                String jobPageUrl = pageInteractionService.findDirectJobUrl(card);
-                if (jobPageUrl == null) {
-                    continue;
+        /**
+         * @param batch картки
+         * @param urls  URL вакансій в тому ж порядку (null, якщо URL не знайдено)
+         */
+        private void acceptAll(List<WebElement> batch, List<String> urls) {
+            List<WebElement> pendingCards = new ArrayList<>();
+            List<String> pendingUrls = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                if (admit(urls.get(i))) {
+                    pendingCards.add(batch.get(i));
+                    pendingUrls.add(urls.get(i));
                 }
+            }
+            crawlMetrics.countCards(CrawlMetrics.CardStatus.SEEN, jobFunctions, batch.size());
+            crawlMetrics.countCards(CrawlMetrics.CardStatus.SKIPPED, jobFunctions,
+                batch.size() - pendingCards.size());
+            if (pendingCards.isEmpty()) {
+                return;
+            }
 
-                foundUrls++;
+            int valid = 0;
 
-                // Збереження вакансії
-                Job job = createJobFromCard(card, jobPageUrl, jobFunctions);
-                if (job != null) {
-                    jobs.add(job);
-                    if (jobPageUrl.startsWith(REQUIRED_PREFIX)) {
-                        savedWithCompanyPrefix++;
-                    } else {
-                        savedWithoutCompanyPrefix++;
+            List<CardData> data = cardParseCache.isEnabled()
+                ? extractCached(pendingCards)
+                : extract(pendingCards);
+            for (int i = 0; i < pendingCards.size(); i++) {
+                try {
+                    String jobPageUrl = pendingUrls.get(i);
+                    CardData cardData = data.get(i);
+                    Job job = createJobFromData(cardData, jobPageUrl, laborFunctionFor(
+                        () -> cardData.all(CardData.JOB_FUNCTIONS), jobPageUrl));
+                    if (job != null) {
+                        jobs.add(job);
+                        valid++;
+                        if (jobPageUrl.startsWith(REQUIRED_PREFIX)) {
+                            savedWithCompanyPrefix++;
+                        } else {
+                            savedWithoutCompanyPrefix++;
+                        }
                     }
+                } catch (Exception e) {
+                    log.warn("Error scraping job card {}: {}", pendingUrls.get(i), e.getMessage());
                 }
+            }
+            crawlMetrics.countCards(CrawlMetrics.CardStatus.VALID, jobFunctions, valid);
+            crawlMetrics.countCards(CrawlMetrics.CardStatus.FAILED, jobFunctions,
+                pendingCards.size() - valid);
+        }
 
-                // Логуємо прогрес рідше - кожні 50 карток
-                if ((i + 1) % 50 == 0) {
-                    log.info("Processed {}/{} job cards", i + 1, jobCards.size());
-                }
+        /**
+         * Рахує картку та вирішує, чи потрібна для неї екстракція
+         */
+        private boolean admit(String jobPageUrl) {
+            cards++;
+            // Логуємо прогрес рідше - кожні 50 карток
+            if (cards % 50 == 0) {
+                log.info("Processed {} job cards", cards);
+            }
+            if (jobPageUrl == null) {
+                return false;
+            }
+            foundUrls++;
+
+            if (!processedUrls.add(jobPageUrl)) {
+                duplicates++;
+                return false;
+            }
 
+            // В інкрементальному режимі вже збережені вакансії не екстрагуємо
+            if (frontier != null && frontier.isKnown(jobPageUrl)) {
+                skippedKnown++;
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Екстракція з кешем: для карток з відомим хешем розмітки поля беруться з кешу,
+         * решта екстрагується одним пакетом і додається в кеш
+         */
+        private List<CardData> extractCached(List<WebElement> pendingCards) {
+            List<String> keys;
+            try {
+                keys = cardParseCache.hashCards(driver, pendingCards).stream()
+                    .map(hash -> cacheNamespace + ":" + hash)
+                    .toList();
             } catch (Exception e) {
-                log.warn("Error scraping job card {}: {}", i + 1, e.getMessage());
+                log.debug("⚠️ Could not hash job cards: {}", e.getMessage());
+                return extract(pendingCards);
+            }
+
+            CardData[] data = new CardData[pendingCards.size()];
+            List<Integer> missed = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                CardParseCache.Entry entry = cardParseCache.get(keys.get(i));
+                if (entry != null) {
+                    data[i] = new CardData(entry.values());
+                    cacheHits++;
+                    cacheSavedNanos += entry.extractionNanos();
+                } else {
+                    missed.add(i);
+                }
+            }
+
+            if (!missed.isEmpty()) {
+                cacheMisses += missed.size();
+                long startedAt = System.nanoTime();
+                List<CardData> extracted = extract(missed.stream().map(pendingCards::get).toList());
+                long perCard = (System.nanoTime() - startedAt) / missed.size();
+                for (int j = 0; j < missed.size(); j++) {
+                    int index = missed.get(j);
+                    data[index] = extracted.get(j);
+                    cardParseCache.put(keys.get(index), extracted.get(j), perCard);
+                }
             }
+            return List.of(data);
         }
-        // Фінальний звіт
-        log.info("📊 ЗВІТ: {} з {} карток оброблено | URL: {} | Збережено: {} (з префіксом: {}, без префіксу: {}) | Функції: {}",
-            jobs.size(), jobCards.size(), foundUrls, jobs.size(), savedWithCompanyPrefix, savedWithoutCompanyPrefix, jobFunctions);
 
-        log.info("🎯 Job scraping completed with MULTIPLE FILTERS LOGIC. Created {} Job objects with real data", jobs.size());
-        return jobs;
-    }
+        /**
+         * Поля карток обраним бекендом; якщо план не спрацював - legacy екстракція
+         */
+        private List<CardData> extract(List<WebElement> pendingCards) {
+            long startedAt = System.nanoTime();
+            CardExtractionEvent event = new CardExtractionEvent();
+            event.begin();
+            try {
+                return extractWithBackend(pendingCards);
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.backend = backend.name();
+                    event.jobFunctions = String.join(",", jobFunctions != null ? jobFunctions : List.of());
+                    event.cards = pendingCards.size();
+                    event.commit();
+                }
+                long elapsed = System.nanoTime() - startedAt;
+                extractionNanos += elapsed;
+                crawlMetrics.recordExtraction(backend.name(), jobFunctions, elapsed,
+                    pendingCards.size());
+            }
+        }
 
-    private Job createJobFromCard(WebElement card, String jobPageUrl, List<String> jobFunctions) {
-        try {
-            String organizationTitle = dataExtractionService.extractCompanyName(card);
-            String positionName = dataExtractionService.extractTitle(card);
-            List<String> tags = dataExtractionService.extractTags(card);
-            String location = dataExtractionService.extractLocation(card);
-            LocalDateTime postedDate = dataExtractionService.extractPostedDate(card);
-            String logoUrl = dataExtractionService.extractLogoUrl(card);
-            String description = dataExtractionService.extractDescription(card);
-
-            String defaultFunction = jobFunctions.isEmpty() ?
-                "Software Engineering" : jobFunctions.get(0);
-
-            // ✅ ВИПРАВЛЕНО: Використовуємо JobCreationService для створення Job з усіма даними
-            Job job = jobCreationService.createJobWithAllData(
-                jobPageUrl, positionName, organizationTitle, logoUrl, location, tags, postedDate,
-                jobFunctions, description
-            );
-
-            // Зберігаємо опис вакансії (тільки якщо це не заглушка)
-            if (job != null && description != null && !description.trim().isEmpty() &&
-                !description.equals("Job scraped from Techstars")) {
+        private List<CardData> extractWithBackend(List<WebElement> pendingCards) {
+            if (plan != null) {
                 try {
-                    descriptionIngestService.saveDescription(job, description);
+                    String baseUri = driver.getCurrentUrl();
+                    List<CardData> data = new ArrayList<>(pendingCards.size());
+                    for (int from = 0; from < pendingCards.size(); from += extractionBatchSize) {
+                        List<WebElement> chunk = pendingCards.subList(from,
+                            Math.min(pendingCards.size(), from + extractionBatchSize));
+                        switch (backend) {
+                            case BROWSER -> data.addAll(plan.extractInBrowser(driver, chunk));
+                            case JSOUP -> data.addAll(extractWithJsoup(chunk, baseUri));
+                            default -> chunk.forEach(card -> data.add(plan.extract(card, baseUri)));
+                        }
+                    }
+                    if (data.size() == pendingCards.size()) {
+                        return data;
+                    }
+                    log.warn("⚠️ Extraction plan returned {} results for {} cards, using legacy extraction",
+                        data.size(), pendingCards.size());
                 } catch (Exception e) {
-                    log.warn("⚠️ Error saving description for job ID: {}: {}", job.getId(), e.getMessage());
+                    log.warn("⚠️ {} extraction failed, using legacy extraction: {}", backend,
+                        e.getMessage());
                 }
             }
+            return pendingCards.stream().map(this::legacyCardData).toList();
+        }
+
+        /**
+         * Поля картки через DataExtractionService (кілька запитів WebDriver на поле)
+         */
+        private CardData legacyCardData(WebElement card) {
+            Map<String, List<String>> values = new LinkedHashMap<>();
+            values.put(CardData.COMPANY, single(dataExtractionService.extractCompanyName(card)));
+            values.put(CardData.TITLE, single(dataExtractionService.extractTitle(card)));
+            values.put(CardData.TAGS, dataExtractionService.extractTags(card));
+            values.put(CardData.LOCATION, single(dataExtractionService.extractLocation(card)));
+            // Сирий рядок дати: розбирається один раз у createJobFromData, без втрати часу
+            values.put(CardData.POSTED_DATE, single(dataExtractionService.extractPostedDate(card)));
+            values.put(CardData.LOGO_URL, single(dataExtractionService.extractLogoUrl(card)));
+            values.put(CardData.DESCRIPTION, single(dataExtractionService.extractDescription(card)));
+            // Функції з картки потрібні тільки для union режиму (або для повторного використання з кешу)
+            values.put(CardData.JOB_FUNCTIONS, isUnion() || cardParseCache.isEnabled()
+                ? dataExtractionService.extractJobFunctions(card)
+                : List.of());
+            return new CardData(values);
+        }
 
-            return job;
+        private List<String> single(String value) {
+            return value != null ? List.of(value) : List.of();
+        }
 
-        } catch (Exception e) {
-            log.warn("⚠️ Error creating Job object: {}", e.getMessage());
-            return null;
+        private void reportParseCache() {
+            if (!cardParseCache.isEnabled()) {
+                return;
+            }
+            int lookups = cacheHits + cacheMisses;
+            log.info("🧠 Parse cache: {}/{} hits ({}%), saved ~{} ms of extraction, "
+                    + "{} misses extracted in {} ms, {} entries cached",
+                cacheHits, lookups, lookups == 0 ? 0 : cacheHits * 100 / lookups,
+                cacheSavedNanos / 1_000_000, cacheMisses, extractionNanos / 1_000_000,
+                cardParseCache.size());
+            cardParseCache.flush();
         }
-    }
 
+        private List<CardData> extractWithJsoup(List<WebElement> chunk, String baseUri) {
+            Object result = ((JavascriptExecutor) driver).executeScript(OUTER_HTML_SCRIPT, chunk);
+            List<CardData> data = new ArrayList<>(chunk.size());
+            if (result instanceof List<?> htmls) {
+                for (Object html : htmls) {
+                    Element body = Jsoup.parseBodyFragment(String.valueOf(html), baseUri).body();
+                    data.add(plan.extract(body.childrenSize() == 1 ? body.child(0) : body));
+                }
+            }
+            return data;
+        }
+    }
 
+    private Job createJobFromData(CardData data, String jobPageUrl, String laborFunction) {
+        String positionName = data.first(CardData.TITLE);
+        String description = data.first(CardData.DESCRIPTION);
+        Job job = jobCreationService.createJobWithAllData(
+            jobPageUrl,
+            positionName != null ? positionName : "Unknown Position",
+            data.first(CardData.COMPANY),
+            data.first(CardData.LOGO_URL),
+            data.first(CardData.LOCATION),
+            data.all(CardData.TAGS),
+            // Нерозпізнана дата - Job.UNKNOWN_POSTED_DATE: нова вакансія зберігається з невідомою датою,
+            // а upsert не затирає нею вже збережену
+            dateParsingService.parseEpochSeconds(data.first(CardData.POSTED_DATE)),
+            laborFunction,
+            description
+        );
+        saveDescription(job, description);
+        return job;
+    }
 
+    /**
+     * Зберігає опис вакансії (тільки якщо це не заглушка)
+     */
+    private void saveDescription(Job job, String description) {
+        if (job != null && description != null && !description.trim().isEmpty() &&
+            !description.equals("Job scraped from Techstars")) {
+            try {
+                descriptionIngestService.saveDescription(job, description);
+            } catch (Exception e) {
+                log.warn("⚠️ Error saving description for job ID: {}: {}", job.getId(), e.getMessage());
+            }
+        }
+    }
 }
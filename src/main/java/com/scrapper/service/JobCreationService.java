@@ -6,7 +6,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,23 +19,33 @@ public class JobCreationService {
      */
     public Job createJobWithAllData(String jobPageUrl, String positionName, String organizationTitle, 
                                    String logoUrl, String location, List<String> tags, 
-                                   LocalDateTime postedDate, List<String> jobFunctions, String description) {
+                                   long postedAtEpochSeconds, List<String> jobFunctions, String description) {
         String defaultFunction = jobFunctions.isEmpty() ? 
                 "Software Engineering" : jobFunctions.get(0);
-                
+
+        return createJobWithAllData(jobPageUrl, positionName, organizationTitle, logoUrl, location,
+                tags, postedAtEpochSeconds, defaultFunction, description);
+    }
+
+    /**
+     * Створити Job з уже визначеною job function (наприклад, прочитаною з картки).
+     * Дата публікації в Unix секундах; EpochDateParser.UNPARSED зберігається як Job.UNKNOWN_POSTED_DATE
+     */
+    public Job createJobWithAllData(String jobPageUrl, String positionName, String organizationTitle,
+                                   String logoUrl, String location, List<String> tags,
+                                   long postedAtEpochSeconds, String laborFunction, String description) {
         Job job = Job.builder()
                 .positionName(positionName != null ? positionName : "Job from " + jobPageUrl)
                 .jobPageUrl(jobPageUrl)
                 .organizationUrl(jobPageUrl)
                 .organizationTitle(organizationTitle != null ? organizationTitle : "Company from Techstars")
-                .laborFunction(defaultFunction)
+                .laborFunction(laborFunction)
                 .address(location != null && !location.trim().isEmpty() ? location : "Remote")
                 .description(description != null && !description.trim().isEmpty() ? description : "Job scraped from Techstars")
                 .logoUrl(logoUrl)
                 .build();
         
-        // ✅ ОНОВЛЕНО: Використовуємо новий метод для конвертації LocalDateTime в Unix Timestamp
-        job.setPostedDateFromLocalDateTime(postedDate);
+        job.setPostedDateFromEpochSeconds(postedAtEpochSeconds);
         
         // Додаємо теги
         if (tags != null && !tags.isEmpty()) {
@@ -4,5 +4,18 @@ import com.scrapper.model.Job;
 import java.util.List;
 
 public interface JobIngestService {
+    /**
+     * Вакансій на один запит перевірки існування та один flush
+     */
+    int CHUNK_SIZE = 500;
+
     int saveJobs(List<Job> jobs);
+
+    /**
+     * Оновлює поля вже збережених вакансій (за jobPageUrl) та додає нові
+     */
+    UpsertResult upsertJobs(List<Job> jobs);
+
+    record UpsertResult(int inserted, int updated) {
+    }
 }
@@ -2,19 +2,35 @@ package com.scrapper.service;
 
 import com.scrapper.model.Job;
 import com.scrapper.repository.job.JobRepository;
+import com.scrapper.service.crawl.CrawlMetrics;
+import com.scrapper.service.crawl.JobFunctionPartitioner;
+import com.scrapper.service.jfr.IngestBatchEvent;
+import com.scrapper.validation.Validation;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JobIngestServiceImpl implements JobIngestService {
 
+    private static final String PLACEHOLDER_DESCRIPTION = "Job scraped from Techstars";
+
     private final JobRepository jobRepository;
+    private final CrawlMetrics crawlMetrics;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -23,18 +39,130 @@ public class JobIngestServiceImpl implements JobIngestService {
             return 0;
         }
         
+        Timer.Sample sample = crawlMetrics.start(CrawlMetrics.Stage.SAVE_JOBS);
+        IngestBatchEvent event = new IngestBatchEvent();
+        event.begin();
         int savedCount = 0;
-        for (Job job : jobs) {
-            try {
-                if (!jobRepository.existsByJobPageUrl(job.getJobPageUrl())) {
-                    jobRepository.save(job);
-                    savedCount++;
+        int failedCount = 0;
+        Set<String> seenUrls = new HashSet<>();
+        for (int from = 0; from < jobs.size(); from += CHUNK_SIZE) {
+            List<Job> chunk = jobs.subList(from, Math.min(jobs.size(), from + CHUNK_SIZE));
+            // Один запит на пакет: existsByJobPageUrl для кожної вакансії викликав auto-flush
+            // всього persistence context, і час збереження ріс квадратично
+            Set<String> existing = new HashSet<>(jobRepository.findExistingJobPageUrls(
+                chunk.stream().map(Job::getJobPageUrl).toList()));
+            for (Job job : chunk) {
+                // Некоректна вакансія відкидається до запису: інакше помилка БД під час flush
+                // перервала б транзакцію разом з рештою пакета
+                if (!isPersistable(job)) {
+                    failedCount++;
+                    continue;
+                }
+                try {
+                    if (!existing.contains(job.getJobPageUrl()) && seenUrls.add(job.getJobPageUrl())) {
+                        jobRepository.save(job);
+                        savedCount++;
+                    }
+                } catch (Exception e) {
+                    log.error("❌ Error saving job {}: {}", job.getPositionName(), e.getMessage());
+                    failedCount++;
                 }
-            } catch (Exception e) {
-                log.error("❌ Error saving job {}: {}", job.getPositionName(), e.getMessage());
             }
+            flushAndClear();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.jobs = jobs.size();
+            event.saved = savedCount;
+            event.failed = failedCount;
+            event.commit();
         }
+        crawlMetrics.stop(sample, CrawlMetrics.Stage.SAVE_JOBS,
+            jobs.stream().map(Job::getLaborFunction).distinct().toList(),
+            failedCount == 0 ? "success" : "partial");
         log.info("✅ Saved {}/{} jobs", savedCount, jobs.size());
         return savedCount;
     }
+
+    @Override
+    @Transactional
+    public UpsertResult upsertJobs(List<Job> jobs) {
+        if (jobs == null || jobs.isEmpty()) {
+            return new UpsertResult(0, 0);
+        }
+
+        Timer.Sample sample = crawlMetrics.start(CrawlMetrics.Stage.SAVE_JOBS);
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < jobs.size(); from += CHUNK_SIZE) {
+            List<Job> chunk = jobs.subList(from, Math.min(jobs.size(), from + CHUNK_SIZE)).stream()
+                .filter(this::isPersistable)
+                .toList();
+            // Один запит на пакет замість existsByJobPageUrl для кожної вакансії
+            Map<String, Job> existing = jobRepository.findAllByJobPageUrlIn(
+                    chunk.stream().map(Job::getJobPageUrl).toList()).stream()
+                .collect(Collectors.toMap(Job::getJobPageUrl, Function.identity()));
+            List<Job> toSave = new ArrayList<>(chunk.size());
+            for (Job job : chunk) {
+                Job current = existing.get(job.getJobPageUrl());
+                if (current == null) {
+                    toSave.add(job);
+                    inserted++;
+                } else {
+                    copyFields(job, current);
+                    toSave.add(current);
+                    updated++;
+                }
+            }
+            jobRepository.saveAll(toSave);
+            flushAndClear();
+        }
+        crawlMetrics.stop(sample, CrawlMetrics.Stage.SAVE_JOBS,
+            jobs.stream().map(Job::getLaborFunction).distinct().toList(), "upsert");
+        log.info("✅ Upserted {} jobs: {} new, {} updated", jobs.size(), inserted, updated);
+        return new UpsertResult(inserted, updated);
+    }
+
+    private boolean isPersistable(Job job) {
+        if (Validation.IS_PERSISTABLE.test(job)) {
+            return true;
+        }
+        log.warn("⚠️ Skipping job {} with missing or unstorable fields", job.getJobPageUrl());
+        return false;
+    }
+
+    /**
+     * Записує пакет і звільняє persistence context, щоб dirty checking не ріс з розміром вхідного списку
+     */
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Переносить повторно екстраговані поля у збережену вакансію (id та URL не змінюються)
+     */
+    private void copyFields(Job source, Job target) {
+        target.setPositionName(source.getPositionName());
+        target.setOrganizationUrl(source.getOrganizationUrl());
+        target.setLogoUrl(source.getLogoUrl());
+        target.setOrganizationTitle(source.getOrganizationTitle());
+        // Невизначена у повторному скрапінгу функція не затирає вже відому
+        if (!JobFunctionPartitioner.UNRESOLVED.equals(source.getLaborFunction())) {
+            target.setLaborFunction(source.getLaborFunction());
+        }
+        target.setAddress(source.getAddress());
+        // Невідома у повторному скрапінгу дата не затирає вже збережену
+        if (source.hasKnownPostedDate()) {
+            target.setPostedDate(source.getPostedDate());
+        }
+        // Заглушка не затирає вже збережений опис
+        if (!PLACEHOLDER_DESCRIPTION.equals(source.getDescription())) {
+            target.setDescription(source.getDescription());
+        }
+        target.getTags().clear();
+        target.getTags().addAll(source.getTags());
+        target.getLocations().clear();
+        target.getLocations().addAll(source.getLocations());
+    }
 }
@@ -1,7 +1,16 @@
 package com.scrapper.service;
 
+import com.scrapper.service.archive.PageArchiveService;
+import com.scrapper.service.crawl.CrawlProfile;
+import com.scrapper.service.crawl.JobFunctionCatalogService;
+import com.scrapper.service.crawl.KnownJobFrontier;
+import com.scrapper.service.crawl.ScrollPacingController;
+import com.scrapper.service.crawl.SelectorStrategyCache;
+import com.scrapper.service.jfr.ScrollIterationEvent;
 import com.scrapper.util.ScrapingSelectors;
+import com.scrapper.validation.CardClassificationRules;
 import com.scrapper.validation.Validation;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -13,9 +22,15 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -37,8 +52,63 @@ public class PageInteractionService {
     @Value("${scraping.selenium.scroll.max-no-new-jobs:2}")
     private int maxNoNewJobsAttempts;
 
+    @Value("${scraping.selenium.scroll.adaptive:true}")
+    private boolean adaptiveScroll;
+
+    @Value("${scraping.selenium.scroll.min-delay:500}")
+    private long minScrollDelay;
+
+    @Value("${scraping.selenium.scroll.max-delay:10000}")
+    private long maxScrollDelay;
+
+    @Value("${scraping.selenium.scroll.poll-interval:250}")
+    private long scrollPollInterval;
+
+    @Value("${scraping.selenium.scroll.delay-decrease-step:500}")
+    private long scrollDelayDecreaseStep;
+
+    @Value("${scraping.selenium.scroll.backoff-factor:2.0}")
+    private double scrollBackoffFactor;
+
+    @Value("${scraping.selenium.scroll.max-unconfirmed-stalls:10}")
+    private int maxUnconfirmedStalls;
+
+    @Value("${scraping.selenium.scroll.max-iterations:2000}")
+    private int maxScrollIterations;
+
+    @Value("${scraping.selenium.scroll.declared-total-tolerance:0.02}")
+    private double declaredTotalTolerance;
+
+    @Value("${scraping.stream.detach-processed:false}")
+    private boolean detachProcessedCards;
+
+    @Value("${scraping.diagnostics.snapshot-dir:logs/dom-snapshots}")
+    private String snapshotDirectory;
+
     private static final String LOAD_MORE_SELECTOR = ScrapingSelectors.LOAD_MORE_BUTTON[0];
     private static final String JOB_CARD_SELECTOR = ScrapingSelectors.JOB_CARD[0];
+    private static final String JOB_CARD_GROUP = "JOB_CARD";
+
+    /**
+     * Збирає всі опції відкритого dropdown "Job function" одним викликом: [назва, data-testid]
+     */
+    private static final String JOB_FUNCTION_OPTIONS_SCRIPT =
+        "const options = [];"
+            + "const seen = new Set();"
+            + "document.querySelectorAll(arguments[0]).forEach(element => {"
+            + "  const label = (element.innerText || '').trim();"
+            + "  if (!label || label.includes('\\n') || seen.has(label)) { return; }"
+            + "  seen.add(label);"
+            + "  const holder = element.closest('[data-testid]');"
+            + "  const id = holder ? holder.getAttribute('data-testid') : null;"
+            + "  options.push([label, id && id.startsWith('job_functions-') ? id : null]);"
+            + "});"
+            + "return options;";
+
+    private final SelectorStrategyCache selectorStrategyCache;
+    private final CardClassificationRules cardClassificationRules;
+    private final JobFunctionCatalogService jobFunctionCatalogService;
+    private final PageArchiveService pageArchiveService;
 
     /**
      * Знаходить кнопку Load More
@@ -120,6 +190,7 @@ public class PageInteractionService {
                 // Скролимо вниз
                 ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body"
                     + ".scrollHeight);");
+                countScrollIteration();
                 sleep(scrollDelay);
 
                 // Перевіряємо нові картки з фільтрацією
@@ -179,43 +250,19 @@ public class PageInteractionService {
 
 
     /**
-     * Пошук карток вакансій з кількома стратегіями
+     * Пошук карток вакансій з кількома стратегіями.
+     * Селектори пробуються в порядку SelectorStrategyCache: спершу той, що спрацював минулого
+     * разу. Якщо жоден не дав валідних карток - зберігається знімок DOM для діагностики і
+     * повертається порожній список (замість обробки випадкових div).
      */
     public List<WebElement> findJobCardsWithMultipleStrategies(WebDriver driver) {
         log.info("🔍 Finding job cards with multiple strategies...");
 
-        // Спочатку тестуємо найбільш ймовірний селектор
-        String primarySelector = "[class*='job-card']";
-        try {
-            List<WebElement> elements = driver.findElements(By.cssSelector(primarySelector));
-            log.info("🔍 Primary selector '{}' -> found {} elements", primarySelector,
-                elements.size());
-
-            if (!elements.isEmpty()) {
-                // Валідація елементів - фільтруємо неправильні
-                List<WebElement> validElements = Validation.filterValidJobCards(elements);
-                log.info("🔍 After validation: {} valid elements out of {} total",
-                    validElements.size(), elements.size());
-
-                if (!validElements.isEmpty()) {
-                    log.info("✅ Found {} valid job cards with primary selector: '{}'",
-                        validElements.size(), primarySelector);
-                    return validElements;
-                }
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ Primary selector '{}' failed: {}", primarySelector, e.getMessage());
-        }
-
-        // Спробуємо інші селектори з ScrapingSelectors.JOB_CARD
-        for (int i = 0; i < ScrapingSelectors.JOB_CARD.length; i++) {
-            String selector = ScrapingSelectors.JOB_CARD[i];
-
-            // Пропускаємо основний селектор, який вже перевірили
-            if (selector.equals(primarySelector)) {
-                continue;
-            }
-
+        List<String> selectors = selectorStrategyCache.orderedSelectors(JOB_CARD_GROUP,
+            ScrapingSelectors.JOB_CARD);
+        for (int i = 0; i < selectors.size(); i++) {
+            String selector = selectors.get(i);
+            long startedAt = System.currentTimeMillis();
             try {
                 List<WebElement> elements = driver.findElements(By.cssSelector(selector));
                 log.info("🔍 Selector {}: '{}' -> found {} elements", i + 1, selector,
@@ -223,11 +270,14 @@ public class PageInteractionService {
 
                 if (!elements.isEmpty()) {
                     // Валідація елементів - фільтруємо неправильні
-                    List<WebElement> validElements = Validation.filterValidJobCards(elements);
+                    List<WebElement> validElements = Validation.filterValidJobCards(driver,
+                        elements, cardClassificationRules);
                     log.info("🔍 After validation: {} valid elements out of {} total",
                         validElements.size(), elements.size());
 
                     if (!validElements.isEmpty()) {
+                        selectorStrategyCache.recordHit(JOB_CARD_GROUP, selector,
+                            System.currentTimeMillis() - startedAt, validElements.size());
                         log.info("✅ Found {} valid job cards with selector: '{}'",
                             validElements.size(), selector);
                         return validElements;
@@ -236,9 +286,31 @@ public class PageInteractionService {
             } catch (Exception e) {
                 log.warn("⚠️ Selector '{}' failed: {}", selector, e.getMessage());
             }
+            selectorStrategyCache.recordMiss(JOB_CARD_GROUP, selector,
+                System.currentTimeMillis() - startedAt);
         }
 
-        // Аналіз всіх div елементів для діагностики
+        saveDomSnapshot(driver, "job-cards");
+        return new ArrayList<>();
+    }
+
+    /**
+     * Зберігає page source та короткий опис перших div для діагностики зміни розмітки
+     */
+    private void saveDomSnapshot(WebDriver driver, String reason) {
+        try {
+            Path directory = Path.of(snapshotDirectory);
+            Files.createDirectories(directory);
+            Path snapshot = directory.resolve(reason + "-" + System.currentTimeMillis() + ".html");
+            Files.writeString(snapshot, "<!-- " + driver.getCurrentUrl() + " -->\n"
+                + driver.getPageSource());
+            log.error("❌ No valid job cards found with any selector, DOM snapshot saved to {}",
+                snapshot.toAbsolutePath());
+        } catch (Exception e) {
+            log.error("❌ No valid job cards found and DOM snapshot failed: {}", e.getMessage());
+        }
+
+        // Аналіз перших div елементів для діагностики
         List<WebElement> allDivs = driver.findElements(By.tagName("div"));
         int sampleSize = Math.min(10, allDivs.size());
         for (int i = 0; i < sampleSize; i++) {
@@ -246,24 +318,78 @@ public class PageInteractionService {
                 WebElement div = allDivs.get(i);
                 String className = div.getAttribute("class");
                 String dataTestId = div.getAttribute("data-testid");
-                String tagName = div.getTagName();
                 String text = div.getText();
-                log.info("🔍 Div {}: tag='{}', class='{}', data-testid='{}', text='{}'",
-                    i + 1, tagName, className, dataTestId,
+                log.info("🔍 Div {}: class='{}', data-testid='{}', text='{}'",
+                    i + 1, className, dataTestId,
                     text.length() > 50 ? text.substring(0, 50) + "..." : text);
             } catch (Exception e) {
                 log.warn("⚠️ Error analyzing div {}: {}", i + 1, e.getMessage());
             }
         }
+    }
 
-        // Повертаємо перші 50 div елементів для аналізу
-        return allDivs.subList(0, Math.min(50, allDivs.size()));
+    /**
+     * Селектор карток для збору URL за позицією в DOM - найкращий за статистикою
+     */
+    private String cardSelector() {
+        return selectorStrategyCache.preferredSelector(JOB_CARD_GROUP, ScrapingSelectors.JOB_CARD);
     }
 
     /**
-     * Пошук карток вакансій на сторінці компанії
+     * Збирає URL вже завантажених карток одним викликом JavaScript (без round trip на кожну
+     * картку). Порядок стратегій той самий, що й у findDirectJobUrl.
+     *
+     * @param limit максимальна кількість URL, 0 - без обмеження
      */
+    public List<String> collectLoadedJobUrls(WebDriver driver, int limit) {
+        return collectLoadedCards(driver, 0, limit).stream()
+            .map(LoadedCard::url)
+            .toList();
+    }
 
+    /**
+     * Повертає URL та дату публікації карток, починаючи з позиції offset у DOM.
+     * Картки без посилання пропускаються, але позиція враховується.
+     */
+    @SuppressWarnings("unchecked")
+    public List<LoadedCard> collectLoadedCards(WebDriver driver, int offset, int limit) {
+        List<LoadedCard> cards = new ArrayList<>();
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(
+                "const all = document.querySelectorAll(arguments[0]);"
+                    + "const end = arguments[2] > 0 ? Math.min(all.length, arguments[1] + arguments[2]) : all.length;"
+                    + "const cards = [];"
+                    + "for (let i = arguments[1]; i < end; i++) {"
+                    + "  const card = all[i];"
+                    + "  const link = card.querySelector(\"a[data-testid='job-card-link']\")"
+                    + "    || (card.parentElement && card.parentElement.tagName === 'A' ? card.parentElement : null)"
+                    + "    || card.querySelector(\"a[href*='jobs.techstars.com']\");"
+                    + "  const date = card.querySelector(\"meta[itemprop='datePosted']\");"
+                    + "  cards.push([i, link && link.href ? link.href : null, date ? date.content : null]);"
+                    + "}"
+                    + "return cards;",
+                cardSelector(), offset, limit);
+            if (result instanceof List) {
+                for (Object row : (List<Object>) result) {
+                    List<Object> values = (List<Object>) row;
+                    if (values.get(1) != null) {
+                        cards.add(new LoadedCard(null, ((Number) values.get(0)).intValue(),
+                            (String) values.get(1), (String) values.get(2)));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Could not collect loaded job cards: {}", e.getMessage());
+        }
+        return cards;
+    }
+
+    /**
+     * Картка, вже присутня в DOM: елемент (тільки в потоковому режимі), позиція,
+     * URL та сирий datePosted з meta тегу
+     */
+    public record LoadedCard(WebElement element, int index, String url, String datePosted) {
+    }
 
     /**
      * Знаходить пряме посилання на вакансію в картці
@@ -353,12 +479,12 @@ public class PageInteractionService {
             log.debug("✅ Found 'Job function' button, clicking to open dropdown...");
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);",
                 jobFunctionButton);
-            Thread.sleep(500);
+            sleep(500);
 
             // Додаткова перевірка, чи кнопка клікабельна
             if (!jobFunctionButton.isEnabled() || !jobFunctionButton.isDisplayed()) {
                 log.warn("⚠️ Job function button is not clickable, waiting...");
-                Thread.sleep(2000);
+                sleep(2000);
             }
 
             // Спробуємо клікнути кілька разів, якщо потрібно
@@ -367,7 +493,7 @@ public class PageInteractionService {
                 log.debug("🔍 Attempt {} to click job function button...", attempt);
                 try {
                     jobFunctionButton.click();
-                    Thread.sleep(2000); // Чекаємо відкриття dropdown
+                    sleep(2000); // Чекаємо відкриття dropdown
 
                     // Перевіряємо, чи dropdown дійсно відкрився
                     List<WebElement> dropdownOptions = driver.findElements(By.cssSelector("div"
@@ -378,12 +504,12 @@ public class PageInteractionService {
                         break;
                     } else {
                         log.debug("⚠️ Dropdown not opened on attempt {}, trying again...", attempt);
-                        Thread.sleep(1000);
+                        sleep(1000);
                     }
                 } catch (Exception e) {
                     log.warn("⚠️ Error clicking job function button on attempt {}: {}", attempt,
                         e.getMessage());
-                    Thread.sleep(1000);
+                    sleep(1000);
                 }
             }
 
@@ -392,6 +518,11 @@ public class PageInteractionService {
                 return false;
             }
 
+            // Каталог опцій збираємо з уже відкритого dropdown, коли він застарів
+            if (!jobFunctionCatalogService.isFresh()) {
+                jobFunctionCatalogService.update(readJobFunctionOptions(driver));
+            }
+
             // КРОК 2: Знаходимо та натискаємо на потрібну опцію в dropdown
             WebElement jobFunctionOption = findJobFunctionOption(driver, jobFunction);
             if (jobFunctionOption == null) {
@@ -403,9 +534,9 @@ public class PageInteractionService {
                 jobFunctionOption.getText());
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);",
                 jobFunctionOption);
-            Thread.sleep(500);
+            sleep(500);
             jobFunctionOption.click();
-            Thread.sleep(2000); // Чекаємо застосування фільтра
+            sleep(2000); // Чекаємо застосування фільтра
 
             // КРОК 3: Закриваємо випадаюче меню після застосування фільтра
             log.debug("🔍 Closing dropdown after applying filter '{}'...", jobFunction);
@@ -413,7 +544,7 @@ public class PageInteractionService {
 
             // Додаткова пауза після закриття меню
             log.debug("🔍 Waiting after closing dropdown...");
-            Thread.sleep(2000);
+            sleep(2000);
 
             log.debug("✅ Successfully applied job function filter: '{}'", jobFunction);
             return true;
@@ -477,6 +608,18 @@ public class PageInteractionService {
         // Діагностика: виводимо всі доступні опції
         log.info("🔍 Looking for job function option: '{}'", jobFunction);
 
+        // 0. Ідентифікатор опції з каталогу
+        Optional<String> optionId = jobFunctionCatalogService.optionId(jobFunction);
+        if (optionId.isPresent()) {
+            List<WebElement> elements = driver.findElements(
+                By.cssSelector("[data-testid='" + optionId.get() + "']"));
+            for (WebElement element : elements) {
+                if (element.isDisplayed()) {
+                    return element;
+                }
+            }
+        }
+
         // 1. Спочатку спробуємо точний селектор
         try {
             List<WebElement> elements = driver.findElements(By.cssSelector("div.sc-beqWaB.dfbUjw"));
@@ -571,7 +714,7 @@ public class PageInteractionService {
                 // Прокручуємо dropdown вниз
                 ((JavascriptExecutor) driver).executeScript("arguments[0].scrollTop = "
                     + "arguments[0].scrollHeight;", dropdownContainer);
-                Thread.sleep(1000);
+                sleep(1000);
 
                 // Знову шукаємо опцію після прокрутки
                 List<WebElement> elements = driver.findElements(By.cssSelector("div.sc-beqWaB"
@@ -597,6 +740,60 @@ public class PageInteractionService {
     }
 
 
+    /**
+     * Опції відкритого dropdown "Job function" для каталогу
+     */
+    private List<JobFunctionCatalogService.FilterOption> readJobFunctionOptions(WebDriver driver) {
+        List<JobFunctionCatalogService.FilterOption> options = new ArrayList<>();
+        try {
+            String selector = jobFunctionOptionSelector();
+            Object result = ((JavascriptExecutor) driver).executeScript(
+                JOB_FUNCTION_OPTIONS_SCRIPT, selector);
+            if (result instanceof List<?> rows) {
+                for (Object row : rows) {
+                    if (row instanceof List<?> values && values.size() == 2) {
+                        options.add(new JobFunctionCatalogService.FilterOption(
+                            (String) values.get(0), (String) values.get(1)));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.debug("⚠️ Could not read job function options: {}", e.getMessage());
+        }
+        return options;
+    }
+
+    /**
+     * Оновлює застарілий каталог job functions на сторінці, відкритій за deep link, де dropdown
+     * інакше не відкривається: dropdown відкривається тільки для читання опцій і закривається
+     * без вибору, тож фільтри з URL не змінюються
+     */
+    public void refreshJobFunctionCatalog(WebDriver driver) {
+        if (jobFunctionCatalogService.isFresh()) {
+            return;
+        }
+        WebElement jobFunctionButton = findJobFunctionButton(driver);
+        if (jobFunctionButton == null) {
+            log.debug("⚠️ No 'Job function' button to refresh the catalog from");
+            return;
+        }
+        try {
+            jobFunctionButton.click();
+            new WebDriverWait(driver, Duration.ofSeconds(5)).until(ExpectedConditions
+                .presenceOfElementLocated(By.cssSelector(jobFunctionOptionSelector())));
+            jobFunctionCatalogService.update(readJobFunctionOptions(driver));
+        } catch (Exception e) {
+            log.warn("⚠️ Could not refresh job function catalog from the filtered page: {}", e.getMessage());
+        } finally {
+            closeJobFunctionDropdown(driver);
+        }
+    }
+
+    private static String jobFunctionOptionSelector() {
+        return String.join(", ", ScrapingSelectors.JOB_FUNCTION_OPTIONS[0],
+            ScrapingSelectors.JOB_FUNCTION_OPTIONS[2]);
+    }
+
     /**
      * Знаходить на сторінці текст "Showing X jobs" і витягує кількість X.
      * Це потрібно для того, щоб знати, скільки всього вакансій очікувати після завантаження.
@@ -655,28 +852,57 @@ public class PageInteractionService {
      * @param totalJobsExpected Загальна кількість вакансій, яку потрібно завантажити.
      */
     public void loadAllAvailableJobs(WebDriver driver, int totalJobsExpected) {
+        loadAllAvailableJobs(driver, totalJobsExpected, null);
+    }
+
+    /**
+     * Те саме, але в інкрементальному режимі: після кожного скролу нові картки звіряються з
+     * межею вже відомих вакансій, і прокрутка зупиняється, щойно межу досягнуто.
+     *
+     * @param frontier межа відомих вакансій або null для повного завантаження
+     */
+    public void loadAllAvailableJobs(WebDriver driver, int totalJobsExpected,
+                                     KnownJobFrontier frontier) {
+        loadAllAvailableJobs(driver, totalJobsExpected, frontier, null);
+    }
+
+    /**
+     * Потоковий режим: після кожного скролу нові (ще не оброблені) картки одразу передаються
+     * в batchConsumer, не чекаючи завершення прокрутки. Оброблені картки позначаються атрибутом
+     * і, за налаштуванням, видаляються з DOM, щоб пам'ять Chrome не росла на великих стрічках.
+     *
+     * @param batchConsumer отримувач пачок нових карток або null для звичайного режиму
+     */
+    public void loadAllAvailableJobs(WebDriver driver, int totalJobsExpected,
+                                     KnownJobFrontier frontier,
+                                     Consumer<List<LoadedCard>> batchConsumer) {
         log.info("🔄 Loading jobs: expected {}", totalJobsExpected);
+        CardStream stream = batchConsumer != null ? new CardStream(batchConsumer) : null;
         if (totalJobsExpected == 0) {
             log.warn("⚠️ Expected job count is 0, skipping dynamic loading.");
             // Можна виконати один скрол про всяк випадок, якщо лічильник не знайшовся
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body"
                 + ".scrollHeight);");
             sleep(scrollDelay);
+            advance(driver, frontier, stream);
             return;
         }
 
-        int currentJobCount = 0;
+        ScrollPacingController pacing = createPacingController();
         int attemptsWithNoNewJobs = 0;
-        final int MAX_ATTEMPTS_WITH_NO_NEW_JOBS = 3; // Запобіжник від нескінченного циклу
+        int unconfirmedStalls = 0;
+        int scrollIteration = 0;
+        int tolerance = Math.max(1, (int) Math.ceil(totalJobsExpected * declaredTotalTolerance));
 
         // Спочатку спробуємо кнопку "Load More" один раз
         WebElement loadMoreButton = findLoadMoreButton(driver);
         if (loadMoreButton != null && isButtonClickable(loadMoreButton)) {
             log.debug("🔘 Found 'Load More' button, clicking once...");
             try {
+                int baseline = countDomCards(driver, stream);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();",
                     loadMoreButton);
-                sleep(scrollDelay);
+                pacing.awaitNewCards(() -> countDomCards(driver, stream), baseline, this::sleep);
             } catch (Exception e) {
                 log.warn("⚠️ Could not click 'Load More' button: {}", e.getMessage());
             }
@@ -684,9 +910,20 @@ public class PageInteractionService {
             log.debug("📜 'Load More' button not found, will use scrolling only.");
         }
 
+        if (advance(driver, frontier, stream)) {
+            logFrontierSavings(frontier, totalJobsExpected);
+            log.info("⏱️ Scroll pacing: {}", pacing.summary());
+            return;
+        }
+
         // Тепер використовуємо тільки скролінг для завантаження решти контенту
-        while (currentJobCount < totalJobsExpected && attemptsWithNoNewJobs < MAX_ATTEMPTS_WITH_NO_NEW_JOBS) {
-            currentJobCount = driver.findElements(By.cssSelector(JOB_CARD_SELECTOR)).size();
+        while (true) {
+            int currentJobCount = countLoadedCards(driver, stream);
+            CrawlProfile profile = CrawlProfile.current();
+            if (profile != null) {
+                profile.updateScrollProgress(currentJobCount, totalJobsExpected,
+                    attemptsWithNoNewJobs, maxNoNewJobsAttempts, pacing.getCurrentDelay());
+            }
 
             // Логуємо тільки кожні 50 вакансій, щоб зменшити спам
             if (currentJobCount % 50 == 0 || currentJobCount >= totalJobsExpected) {
@@ -697,31 +934,314 @@ public class PageInteractionService {
                 log.debug("✅ All expected jobs seem to be loaded.");
                 break;
             }
+            if (attemptsWithNoNewJobs >= maxNoNewJobsAttempts) {
+                log.info("⚠️ No new jobs after {} scrolls, stopping at {} / {}",
+                    attemptsWithNoNewJobs, currentJobCount, totalJobsExpected);
+                break;
+            }
+            // Короткі порожні очікування не підтверджують кінець стрічки, але й не можуть тривати вічно
+            if (unconfirmedStalls >= maxUnconfirmedStalls) {
+                log.info("⚠️ No new jobs after {} short scrolls, stopping at {} / {}",
+                    unconfirmedStalls, currentJobCount, totalJobsExpected);
+                break;
+            }
+            if (scrollIteration >= maxScrollIterations) {
+                log.warn("⚠️ Scroll iteration cap {} reached, stopping at {} / {}",
+                    maxScrollIterations, currentJobCount, totalJobsExpected);
+                break;
+            }
 
-            // Просто скролимо вниз
-            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body"
-                + ".scrollHeight);");
-            sleep(scrollDelay);
+            // Скролимо вниз; після порожнього скролу трохи піднімаємось, щоб повторно
+            // спрацював тригер нескінченної прокрутки
+            ScrollIterationEvent scrollEvent = new ScrollIterationEvent();
+            scrollEvent.begin();
+            int baseline = countDomCards(driver, stream);
+            ((JavascriptExecutor) driver).executeScript(attemptsWithNoNewJobs > 0
+                ? "window.scrollBy(0, -window.innerHeight); window.scrollTo(0, document.body.scrollHeight);"
+                : "window.scrollTo(0, document.body.scrollHeight);");
+            countScrollIteration();
+            pacing.awaitNewCards(() -> countDomCards(driver, stream), baseline, this::sleep);
+
+            // Нові картки: в потоковому режимі одразу обробляються, далі перевірка межі
+            boolean frontierReached = advance(driver, frontier, stream);
+            int newJobCount = countLoadedCards(driver, stream);
+            scrollEvent.end();
+            scrollIteration++;
+            if (scrollEvent.shouldCommit()) {
+                scrollEvent.iteration = scrollIteration;
+                scrollEvent.cardsBefore = currentJobCount;
+                scrollEvent.cardsAfter = newJobCount;
+                scrollEvent.expectedTotal = totalJobsExpected;
+                scrollEvent.commit();
+            }
+            if (frontierReached) {
+                logFrontierSavings(frontier, totalJobsExpected);
+                break;
+            }
 
             // Перевірка, чи з'явилися нові вакансії
-            int newJobCount = driver.findElements(By.cssSelector(JOB_CARD_SELECTOR)).size();
-            if (newJobCount == currentJobCount) {
+            if (newJobCount > currentJobCount) {
+                attemptsWithNoNewJobs = 0; // Скидаємо лічильник, якщо контент завантажився
+                unconfirmedStalls = 0;
+            } else if (!pacing.isConfirmedStall()) {
+                unconfirmedStalls++;
+            } else {
                 attemptsWithNoNewJobs++;
-                if (attemptsWithNoNewJobs == 1) {
-                    log.debug("⚠️ No new jobs loaded. Attempt {} of {}.", attemptsWithNoNewJobs,
-                        MAX_ATTEMPTS_WITH_NO_NEW_JOBS);
+                log.debug("⚠️ No new jobs loaded. Attempt {} of {}.", attemptsWithNoNewJobs,
+                    maxNoNewJobsAttempts);
+                // Заявлена кількість може трохи відрізнятись від реальної - не чекаємо даремно
+                if (newJobCount >= totalJobsExpected - tolerance) {
+                    log.info("✅ Loaded {} of {} declared jobs (within tolerance {}), stopping",
+                        newJobCount, totalJobsExpected, tolerance);
+                    break;
                 }
-            } else {
-                attemptsWithNoNewJobs = 0; // Скидаємо лічильник, якщо контент завантажився
             }
         }
 
-        log.info("✅ Loading finished. Final count: {}",
-            driver.findElements(By.cssSelector(JOB_CARD_SELECTOR)).size());
+        log.info("✅ Loading finished. Final count: {}", countLoadedCards(driver, stream));
+        log.info("⏱️ Scroll pacing: {}", pacing.summary());
+        if (stream != null) {
+            log.info("🌊 Streamed {} valid cards, {} detached from DOM", stream.emitted,
+                stream.detached);
+        }
+    }
+
+    private void countScrollIteration() {
+        CrawlProfile profile = CrawlProfile.current();
+        if (profile != null) {
+            profile.countScrollIteration();
+        }
+    }
+
+    /**
+     * Некоректні налаштування пауз прокрутки зупиняють старт застосунку, а не перший скрапінг
+     */
+    @PostConstruct
+    void validateScrollSettings() {
+        createPacingController();
+        if (maxScrollIterations <= 0 || maxUnconfirmedStalls <= 0) {
+            throw new IllegalArgumentException("scraping.selenium.scroll.max-iterations and "
+                + "max-unconfirmed-stalls must be > 0");
+        }
+    }
+
+    private ScrollPacingController createPacingController() {
+        return new ScrollPacingController(adaptiveScroll, scrollDelay, minScrollDelay,
+            maxScrollDelay, scrollPollInterval, scrollDelayDecreaseStep, scrollBackoffFactor);
+    }
+
+    /**
+     * Обробляє картки, що з'явились після останнього скролу.
+     *
+     * @return true якщо досягнуто межі відомих вакансій
+     */
+    private boolean advance(WebDriver driver, KnownJobFrontier frontier, CardStream stream) {
+        if (stream != null) {
+            List<LoadedCard> batch = stream.takeNewCards(driver);
+            boolean reached = frontier != null && frontier.observe(batch);
+            stream.emit(driver, batch);
+            return reached;
+        }
+        return frontier != null
+            && frontier.observe(collectLoadedCards(driver, frontier.getObservedCount(), 0));
+    }
+
+    /**
+     * Кількість завантажених карток: в потоковому режимі - всі видані картки (частина з них
+     * може бути вже видалена з DOM), інакше - картки в DOM
+     */
+    private int countLoadedCards(WebDriver driver, CardStream stream) {
+        if (stream != null) {
+            return stream.taken;
+        }
+        return countDomCards(driver, null);
+    }
+
+    /**
+     * Чекає появи перших карток (замість фіксованої паузи після навігації)
+     */
+    public boolean awaitJobCards(WebDriver driver, Duration timeout) {
+        try {
+            new WebDriverWait(driver, timeout).until(d -> countDomCards(d, null) > 0);
+            return true;
+        } catch (Exception e) {
+            log.warn("⚠️ No job cards appeared within {} s", timeout.toSeconds());
+            return false;
+        }
+    }
+
+    /**
+     * Кількість карток у DOM одним викликом JS (без передачі посилань на всі елементи).
+     * Рахується за селектором потоку, а поки його не визначено - за першою стратегією
+     * SelectorStrategyCache, що знаходить хоч щось (як findJobCardsWithMultipleStrategies).
+     */
+    private int countDomCards(WebDriver driver, CardStream stream) {
+        try {
+            Object count = ((JavascriptExecutor) driver).executeScript(
+                "for (const selector of arguments[0]) {"
+                    + "  const count = document.querySelectorAll(selector).length;"
+                    + "  if (count > 0) { return count; }"
+                    + "}"
+                    + "return 0;",
+                stream != null && stream.selector != null
+                    ? List.of(stream.selector)
+                    : selectorStrategyCache.orderedSelectors(JOB_CARD_GROUP, ScrapingSelectors.JOB_CARD));
+            return count instanceof Number ? ((Number) count).intValue() : 0;
+        } catch (Exception e) {
+            log.debug("⚠️ Could not count job cards: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Стан потокової обробки карток одного завантаження
+     */
+    private class CardStream {
+        private final Consumer<List<LoadedCard>> consumer;
+        private final List<String> selectors;
+        private String selector;
+        private boolean missesRecorded;
+        private int taken;
+        private int emitted;
+        private int detached;
+
+        private CardStream(Consumer<List<LoadedCard>> consumer) {
+            this.consumer = consumer;
+            this.selectors = selectorStrategyCache.orderedSelectors(JOB_CARD_GROUP,
+                ScrapingSelectors.JOB_CARD);
+        }
+
+        /**
+         * Визначає селектор карток так само, як findJobCardsWithMultipleStrategies: перша стратегія
+         * в порядку SelectorStrategyCache з валідними картками, з записом hit/miss у кеш.
+         * Поки карток немає, повторюється на наступному скролі, але промахи записуються один раз.
+         */
+        private boolean resolveSelector(WebDriver driver) {
+            for (String candidate : selectors) {
+                long startedAt = System.currentTimeMillis();
+                try {
+                    List<WebElement> elements = driver.findElements(By.cssSelector(candidate));
+                    int valid = elements.isEmpty() ? 0 : Validation.filterValidJobCards(driver,
+                        elements, cardClassificationRules).size();
+                    if (valid > 0) {
+                        selectorStrategyCache.recordHit(JOB_CARD_GROUP, candidate,
+                            System.currentTimeMillis() - startedAt, valid);
+                        log.info("✅ Streaming job cards with selector: '{}'", candidate);
+                        selector = candidate;
+                        return true;
+                    }
+                } catch (Exception e) {
+                    log.warn("⚠️ Selector '{}' failed: {}", candidate, e.getMessage());
+                }
+                if (!missesRecorded) {
+                    selectorStrategyCache.recordMiss(JOB_CARD_GROUP, candidate,
+                        System.currentTimeMillis() - startedAt);
+                }
+            }
+            if (!missesRecorded) {
+                log.warn("⚠️ No valid job cards with any selector yet, will retry after next scroll");
+                missesRecorded = true;
+            }
+            return false;
+        }
+
+        /**
+         * Забирає картки без позначки data-scrape-seen і позначає їх одним викликом JS
+         */
+        @SuppressWarnings("unchecked")
+        private List<LoadedCard> takeNewCards(WebDriver driver) {
+            List<LoadedCard> batch = new ArrayList<>();
+            if (selector == null && !resolveSelector(driver)) {
+                return batch;
+            }
+            try {
+                Object result = ((JavascriptExecutor) driver).executeScript(
+                    "const cards = [];"
+                        + "for (const card of document.querySelectorAll(arguments[0])) {"
+                        + "  if (card.hasAttribute('data-scrape-seen')) { continue; }"
+                        + "  card.setAttribute('data-scrape-seen', '1');"
+                        + "  const link = card.querySelector(\"a[data-testid='job-card-link']\")"
+                        + "    || (card.parentElement && card.parentElement.tagName === 'A' ? card.parentElement : null)"
+                        + "    || card.querySelector(\"a[href*='jobs.techstars.com']\");"
+                        + "  const date = card.querySelector(\"meta[itemprop='datePosted']\");"
+                        + "  cards.push([card, link && link.href ? link.href : null, date ? date.content : null]);"
+                        + "}"
+                        + "return cards;",
+                    selector);
+                if (result instanceof List) {
+                    for (Object row : (List<Object>) result) {
+                        List<Object> values = (List<Object>) row;
+                        int index = taken++;
+                        if (values.get(1) != null) {
+                            batch.add(new LoadedCard((WebElement) values.get(0), index,
+                                (String) values.get(1), (String) values.get(2)));
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ Could not take new job cards: {}", e.getMessage());
+            }
+            return batch;
+        }
+
+        /**
+         * Передає валідні картки далі та, за налаштуванням, видаляє оброблені з DOM
+         */
+        private void emit(WebDriver driver, List<LoadedCard> batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<WebElement> elements = batch.stream().map(LoadedCard::element).toList();
+            Set<WebElement> valid = new HashSet<>(Validation.filterValidJobCards(driver,
+                elements, cardClassificationRules));
+            List<LoadedCard> validCards = batch.stream()
+                .filter(card -> valid.contains(card.element()))
+                .toList();
+
+            long startedAt = System.currentTimeMillis();
+            consumer.accept(validCards);
+            emitted += validCards.size();
+            log.debug("🌊 Streamed batch: {} new cards, {} valid, processed in {} ms (total {})",
+                batch.size(), validCards.size(), System.currentTimeMillis() - startedAt, emitted);
+
+            if (detachProcessedCards) {
+                try {
+                    // З увімкненим архівом розмітка карток повертається тим самим викликом
+                    Object outerHtml = ((JavascriptExecutor) driver).executeScript(
+                        "const html = arguments[1] ? [] : null;"
+                            + "for (const card of arguments[0]) {"
+                            + "  if (html) { html.push(card.outerHTML); }"
+                            + "  card.remove();"
+                            + "}"
+                            + "return html;",
+                        elements, pageArchiveService.isEnabled());
+                    if (outerHtml instanceof List<?> html) {
+                        pageArchiveService.keepDetachedCards(html.stream().map(String::valueOf).toList());
+                    }
+                    detached += elements.size();
+                } catch (Exception e) {
+                    log.debug("⚠️ Could not detach processed cards: {}", e.getMessage());
+                }
+            }
+        }
     }
 
+    private void logFrontierSavings(KnownJobFrontier frontier, int totalJobsExpected) {
+        log.info("✅ Loading stopped at known frontier: {} / {} cards loaded, {} new, "
+                + "{} scroll iterations done, ~{} scroll iterations (~{} cards) saved",
+            frontier.getObservedCount(), totalJobsExpected, frontier.getNewCards(),
+            frontier.getScrollIterations(), frontier.estimateScrollsSaved(totalJobsExpected),
+            Math.max(0, totalJobsExpected - frontier.getObservedCount()));
+    }
 
+    /**
+     * Фіксована пауза; час додається в профіль поточного скрапінгу
+     */
     public void sleep(long milliseconds) {
+        CrawlProfile profile = CrawlProfile.current();
+        if (profile != null) {
+            profile.addSleep(milliseconds);
+        }
         try {
             Thread.sleep(milliseconds);
         } catch (InterruptedException e) {
@@ -0,0 +1,16 @@
+package com.scrapper.service;
+
+/**
+ * Скрапінг не відбувся (помилка браузера, зламані селектори) - на відміну від порожнього
+ * результату, коли дошка справді не має вакансій
+ */
+public class ScrapeFailedException extends RuntimeException {
+
+    public ScrapeFailedException(String message) {
+        super(message);
+    }
+
+    public ScrapeFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
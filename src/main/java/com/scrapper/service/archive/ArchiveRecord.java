@@ -0,0 +1,34 @@
+package com.scrapper.service.archive;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Запис архіву: фінальний DOM сторінки після прокрутки або перехоплена відповідь XHR/fetch
+ *
+ * @param crawlSeq номер скрапінгу в архіві (спільний для сторінки та її XHR)
+ */
+public record ArchiveRecord(Type type, String targetUri, Instant capturedAt, List<String> jobFunctions,
+                            int crawlSeq, String contentType, byte[] body) {
+
+    public enum Type {
+        PAGE, XHR;
+
+        static Type fromCode(byte code) {
+            return values()[code];
+        }
+
+        byte code() {
+            return (byte) ordinal();
+        }
+    }
+
+    public String bodyText() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    public boolean isHtml() {
+        return contentType != null && contentType.contains("html");
+    }
+}
@@ -0,0 +1,209 @@
+package com.scrapper.service.archive;
+
+import com.scrapper.dto.ArchiveReplayDto;
+import com.scrapper.model.Job;
+import com.scrapper.service.JobCreationService;
+import com.scrapper.service.JobIngestService;
+import com.scrapper.service.crawl.JobFunctionPartitioner;
+import com.scrapper.service.extraction.CardData;
+import com.scrapper.service.extraction.ExtractionPlan;
+import com.scrapper.service.extraction.ExtractionPlanService;
+import com.scrapper.util.EpochDateParser;
+import com.scrapper.util.ScrapingSelectors;
+import com.scrapper.validation.CardClassificationRules;
+import com.scrapper.validation.Validation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Повторна екстракція з архіву без браузера: збережені сторінки (та HTML відповіді XHR)
+ * розбираються Jsoup паралельно на всіх ядрах, картки знаходяться тими самими селекторами та
+ * класифікацією, поля - поточним планом екстракції. Результат оновлює вже збережені вакансії
+ * та додає нові, тож виправлення селекторів не потребує нового скрапінгу сайту.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArchiveReplayService {
+
+    @Value("${scraping.archive.replay-parallelism:0}")
+    private int parallelism;
+
+    private final PageArchiveService pageArchiveService;
+    private final ExtractionPlanService extractionPlanService;
+    private final CardClassificationRules cardClassificationRules;
+    private final JobCreationService jobCreationService;
+    private final JobIngestService jobIngestService;
+
+    /**
+     * Результат розбору одного запису архіву
+     */
+    private record ReplayedPage(Instant capturedAt, int cards, List<Job> jobs, boolean failed) {
+    }
+
+    /**
+     * @param since тільки записи, захоплені з цього моменту (null - весь архів)
+     */
+    public ArchiveReplayDto replay(Instant since) {
+        long startedAt = System.currentTimeMillis();
+        PageArchiveIndex index;
+        try {
+            index = pageArchiveService.index();
+        } catch (IOException e) {
+            throw new IllegalStateException("Page archive index is not readable: " + e.getMessage(), e);
+        }
+        long fromMillis = since != null ? since.toEpochMilli() : Long.MIN_VALUE;
+        List<PageArchiveIndex.Entry> entries = new ArrayList<>(index.since(fromMillis, ArchiveRecord.Type.PAGE));
+        entries.addAll(index.since(fromMillis, ArchiveRecord.Type.XHR));
+
+        // План компілюється один раз і лише читається з усіх потоків
+        ExtractionPlan plan = extractionPlanService.currentPlan();
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<ReplayedPage> pages;
+        try {
+            List<CompletableFuture<ReplayedPage>> futures = entries.stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> replayEntry(entry, plan), executor))
+                .toList();
+            pages = futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Одна вакансія може бути в кількох скрапінгах - перемагає найновіший запис
+        Map<String, Job> latest = new LinkedHashMap<>();
+        int cards = 0;
+        int failed = 0;
+        for (ReplayedPage page : pages.stream().sorted(Comparator.comparing(ReplayedPage::capturedAt)).toList()) {
+            cards += page.cards();
+            failed += page.failed() ? 1 : 0;
+            page.jobs().forEach(job -> latest.put(job.getJobPageUrl(), job));
+        }
+        JobIngestService.UpsertResult result = jobIngestService.upsertJobs(new ArrayList<>(latest.values()));
+
+        ArchiveReplayDto replay = ArchiveReplayDto.builder()
+            .records(entries.size())
+            .failedRecords(failed)
+            .cards(cards)
+            .jobs(latest.size())
+            .inserted(result.inserted())
+            .updated(result.updated())
+            .threads(threads)
+            .durationMs(System.currentTimeMillis() - startedAt)
+            .build();
+        log.info("🗄️ Archive replay: {} records ({} failed) -> {} cards, {} jobs ({} new, {} updated) "
+                + "in {} ms on {} threads", replay.getRecords(), failed, cards, replay.getJobs(),
+            result.inserted(), result.updated(), replay.getDurationMs(), threads);
+        return replay;
+    }
+
+    private ReplayedPage replayEntry(PageArchiveIndex.Entry entry, ExtractionPlan plan) {
+        Instant capturedAt = Instant.ofEpochMilli(entry.capturedAtMillis());
+        try {
+            ArchiveRecord record = pageArchiveService.read(entry);
+            if (!record.isHtml()) {
+                // JSON відповіді зберігаються для аналізу, картки є тільки в HTML
+                return new ReplayedPage(capturedAt, 0, List.of(), false);
+            }
+            Document document = record.type() == ArchiveRecord.Type.PAGE
+                ? Jsoup.parse(record.bodyText(), record.targetUri())
+                : Jsoup.parseBodyFragment(record.bodyText(), record.targetUri());
+            List<Element> cards = findJobCards(document);
+            JobFunctionPartitioner partitioner = new JobFunctionPartitioner(record.jobFunctions());
+            List<Job> jobs = new ArrayList<>(cards.size());
+            for (Element card : cards) {
+                String jobPageUrl = findDirectJobUrl(card);
+                if (jobPageUrl != null) {
+                    jobs.add(createJob(plan.extract(card), jobPageUrl, record, partitioner));
+                }
+            }
+            return new ReplayedPage(capturedAt, cards.size(), jobs, false);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not replay archive record #{} (segment {}, offset {}): {}",
+                entry.crawlSeq(), entry.segment(), entry.offset(), e.getMessage());
+            return new ReplayedPage(capturedAt, 0, List.of(), true);
+        }
+    }
+
+    /**
+     * Ті самі стратегії, що й findJobCardsWithMultipleStrategies: перший селектор з валідними картками
+     */
+    private List<Element> findJobCards(Document document) {
+        for (String selector : ScrapingSelectors.JOB_CARD) {
+            Elements elements;
+            try {
+                elements = document.select(selector);
+            } catch (Exception e) {
+                continue;
+            }
+            List<Element> valid = elements.stream()
+                .filter(element -> Validation.isValidJobCard(element, cardClassificationRules))
+                .toList();
+            if (!valid.isEmpty()) {
+                return valid;
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Jsoup варіант findDirectJobUrl (URL абсолютні відносно адреси збереженої сторінки)
+     */
+    private static String findDirectJobUrl(Element card) {
+        Element link = card.selectFirst("a[data-testid=job-card-link]");
+        if (link == null && card.parent() != null && "a".equals(card.parent().tagName())) {
+            link = card.parent();
+        }
+        if (link == null) {
+            link = card.selectFirst("a[href*=jobs.techstars.com]");
+        }
+        if (link == null) {
+            link = card.selectFirst("a[class*=job], a[class*=card], a[class*=link]");
+        }
+        String url = link != null ? link.absUrl("href") : "";
+        return url.isBlank() ? null : url;
+    }
+
+    private Job createJob(CardData data, String jobPageUrl, ArchiveRecord record,
+                          JobFunctionPartitioner partitioner) {
+        String function = partitioner.primary();
+        if (partitioner.isUnion()) {
+            String resolved = partitioner.resolveFromCard(data.all(CardData.JOB_FUNCTIONS));
+            function = resolved != null ? resolved : partitioner.unresolved();
+        }
+        // Відносні дати ("3 days ago") рахуються від моменту збереження сторінки, а не від replay
+        long capturedAt = record.capturedAt().getEpochSecond();
+        String date = data.first(CardData.POSTED_DATE);
+        long postedAt = date != null ? EpochDateParser.parse(date, capturedAt) : EpochDateParser.UNPARSED;
+        String positionName = data.first(CardData.TITLE);
+        return jobCreationService.createJobWithAllData(
+            jobPageUrl,
+            positionName != null ? positionName : "Unknown Position",
+            data.first(CardData.COMPANY),
+            data.first(CardData.LOGO_URL),
+            data.first(CardData.LOCATION),
+            data.all(CardData.TAGS),
+            // Нерозпізнана дата - невідома (0), а не час replay; upsert не затирає нею збережену дату
+            postedAt,
+            function,
+            data.first(CardData.DESCRIPTION)
+        );
+    }
+}
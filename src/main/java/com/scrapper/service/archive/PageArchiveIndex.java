@@ -0,0 +1,127 @@
+package com.scrapper.service.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Індекс архіву: записи фіксованої довжини (32 байти) в порядку додавання.
+ * Час запису в індексі не спадає: скрапінги, що перекриваються, дописують XHR з часом раніше
+ * вже записаних, тому такі записи отримують час попереднього (справжній час - у WARC-Date).
+ * Завдяки цьому пошук за часом - бінарний, без читання сегментів; since може повернути
+ * такий запис навіть якщо його справжній час трохи раніше за fromMillis.
+ * <pre>
+ * long capturedAtMillis | int segment | long offset | int length | byte type | 3 байти | int crawlSeq
+ * </pre>
+ */
+final class PageArchiveIndex {
+
+    static final int ENTRY_BYTES = 32;
+
+    /**
+     * Положення запису в сегменті: offset та length - стиснутий gzip member цілком
+     */
+    record Entry(long capturedAtMillis, int segment, long offset, int length, ArchiveRecord.Type type,
+                 int crawlSeq) {
+    }
+
+    private final MappedByteBuffer buffer;
+    private final int size;
+
+    private PageArchiveIndex(MappedByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Відображає поточний вміст індексу; записи, додані пізніше, в знімок не потрапляють
+     */
+    static PageArchiveIndex map(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new PageArchiveIndex(null, 0);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Недописаний хвіст (обрив під час запису) ігнорується
+            long length = channel.size() - channel.size() % ENTRY_BYTES;
+            if (length == 0) {
+                return new PageArchiveIndex(null, 0);
+            }
+            return new PageArchiveIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, length),
+                (int) (length / ENTRY_BYTES));
+        }
+    }
+
+    static void append(FileChannel channel, Entry entry) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(ENTRY_BYTES)
+            .putLong(entry.capturedAtMillis())
+            .putInt(entry.segment())
+            .putLong(entry.offset())
+            .putInt(entry.length())
+            .put(entry.type().code())
+            .put(new byte[3])
+            .putInt(entry.crawlSeq())
+            .flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    Entry get(int index) {
+        int base = index * ENTRY_BYTES;
+        return new Entry(buffer.getLong(base), buffer.getInt(base + 8), buffer.getLong(base + 12),
+            buffer.getInt(base + 20), ArchiveRecord.Type.fromCode(buffer.get(base + 24)),
+            buffer.getInt(base + 28));
+    }
+
+    /**
+     * Записи заданого типу, захоплені не раніше fromMillis
+     */
+    List<Entry> since(long fromMillis, ArchiveRecord.Type type) {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = lowerBound(fromMillis); i < size; i++) {
+            Entry entry = get(i);
+            if (entry.type() == type) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Час останнього запису індексу (0 для порожнього індексу)
+     */
+    long lastCapturedAtMillis() {
+        return size == 0 ? 0 : buffer.getLong((size - 1) * ENTRY_BYTES);
+    }
+
+    /**
+     * Останній записаний номер скрапінгу (0 для порожнього індексу)
+     */
+    int lastCrawlSeq() {
+        return size == 0 ? 0 : buffer.getInt((size - 1) * ENTRY_BYTES + 28);
+    }
+
+    private int lowerBound(long fromMillis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getLong(mid * ENTRY_BYTES) < fromMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,378 @@
+package com.scrapper.service.archive;
+
+import com.scrapper.service.crawl.CrawlMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Архів сторінок скрапінгу для офлайн повторної екстракції: фінальний DOM після прокрутки та
+ * перехоплені відповіді XHR/fetch. Записи в форматі WARC/1.1, кожен - окремий gzip member,
+ * дописуються в сегменти segment-NNNNN.warc.gz (новий сегмент після max-segment-mb).
+ * Положення записів зберігається в index.bin (див. PageArchiveIndex).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PageArchiveService {
+
+    static final String INDEX_FILE = "index.bin";
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{5})\\.warc\\.gz");
+
+    /**
+     * Перехоплює відповіді fetch та XMLHttpRequest (JSON, HTML, текст) у window.__scraperXhr.
+     * Повторне встановлення на тій самій сторінці нічого не робить.
+     */
+    private static final String CAPTURE_SCRIPT =
+        "if (window.__scraperXhr) { return false; }"
+            + "window.__scraperXhr = [];"
+            + "const limit = arguments[0];"
+            + "const textual = type => /json|html|text/.test(type || '');"
+            + "const keep = (url, type, body) => {"
+            + "  if (window.__scraperXhr.length < limit) {"
+            + "    window.__scraperXhr.push([String(url), type, body, Date.now()]);"
+            + "  }"
+            + "};"
+            + "const originalFetch = window.fetch;"
+            + "if (originalFetch) {"
+            + "  window.fetch = function () {"
+            + "    return originalFetch.apply(this, arguments).then(response => {"
+            + "      const type = response.headers.get('content-type') || '';"
+            + "      if (textual(type)) {"
+            + "        response.clone().text().then(body => keep(response.url, type, body), () => {});"
+            + "      }"
+            + "      return response;"
+            + "    });"
+            + "  };"
+            + "}"
+            + "const open = XMLHttpRequest.prototype.open;"
+            + "XMLHttpRequest.prototype.open = function (method, url) {"
+            + "  this.__scraperUrl = url;"
+            + "  return open.apply(this, arguments);"
+            + "};"
+            + "const send = XMLHttpRequest.prototype.send;"
+            + "XMLHttpRequest.prototype.send = function () {"
+            + "  this.addEventListener('load', () => {"
+            + "    const type = this.getResponseHeader('content-type') || '';"
+            + "    if (textual(type) && (this.responseType === '' || this.responseType === 'text')) {"
+            + "      keep(this.responseURL || this.__scraperUrl, type, this.responseText);"
+            + "    }"
+            + "  });"
+            + "  return send.apply(this, arguments);"
+            + "};"
+            + "return true;";
+
+    private static final String DRAIN_SCRIPT =
+        "const captured = window.__scraperXhr || [];"
+            + "window.__scraperXhr = [];"
+            + "return captured;";
+
+    @Value("${scraping.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scraping.archive.directory:logs/archive}")
+    private String directory;
+
+    @Value("${scraping.archive.max-segment-mb:64}")
+    private long maxSegmentMb;
+
+    @Value("${scraping.archive.max-xhr-per-crawl:2000}")
+    private int maxXhrPerCrawl;
+
+    private final CrawlMetrics crawlMetrics;
+
+    /**
+     * outerHTML карток, прибраних з DOM у потоковому режимі до збереження сторінки (потік скрапінгу)
+     */
+    private final ThreadLocal<List<String>> detachedCards = ThreadLocal.withInitial(ArrayList::new);
+
+    private int segment;
+    private int lastCrawlSeq;
+    private long lastIndexedMillis;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(root());
+            try (Stream<Path> files = Files.list(root())) {
+                segment = files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToInt(matcher -> Integer.parseInt(matcher.group(1)))
+                    .max()
+                    .orElse(1);
+            }
+            PageArchiveIndex index = index();
+            lastCrawlSeq = index.lastCrawlSeq();
+            lastIndexedMillis = index.lastCapturedAtMillis();
+            log.info("🗄️ Page archive at {}: {} records, segment {}", root().toAbsolutePath(),
+                index.size(), segment);
+        } catch (IOException e) {
+            log.warn("⚠️ Could not open page archive at {}, archiving disabled: {}", directory,
+                e.getMessage());
+            enabled = false;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Вмикає перехоплення XHR на поточній сторінці; викликається перед прокруткою, бо саме
+     * вона довантажує вакансії
+     */
+    public void installCapture(WebDriver driver) {
+        if (!enabled) {
+            return;
+        }
+        detachedCards.remove();
+        try {
+            ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT, maxXhrPerCrawl);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not install XHR capture: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Зберігає до кінця скрапінгу розмітку карток, які потоковий режим прибирає з DOM -
+     * інакше у фінальній сторінці архіву їх би не було
+     */
+    public void keepDetachedCards(List<String> outerHtml) {
+        if (enabled && !outerHtml.isEmpty()) {
+            detachedCards.get().addAll(outerHtml);
+        }
+    }
+
+    /**
+     * Архівує фінальний DOM сторінки (разом з прибраними картками) та перехоплені XHR.
+     * Помилки архіву не зупиняють скрапінг.
+     */
+    @SuppressWarnings("unchecked")
+    public void archiveCrawl(WebDriver driver, List<String> jobFunctions) {
+        if (!enabled) {
+            return;
+        }
+        Timer.Sample sample = crawlMetrics.start(CrawlMetrics.Stage.ARCHIVE);
+        String outcome = "success";
+        try {
+            Instant capturedAt = Instant.now();
+            List<String> functions = jobFunctions != null ? List.copyOf(jobFunctions) : List.of();
+            String pageUrl = driver.getCurrentUrl();
+            List<String> detached = detachedCards.get();
+            byte[] pageSource = withDetachedCards(driver.getPageSource(), detached)
+                .getBytes(StandardCharsets.UTF_8);
+
+            List<ArchiveRecord> records = new ArrayList<>();
+            Object captured = ((JavascriptExecutor) driver).executeScript(DRAIN_SCRIPT);
+            int crawlSeq = nextCrawlSeq();
+            if (captured instanceof List<?> rows) {
+                for (Object row : rows) {
+                    List<Object> values = (List<Object>) row;
+                    records.add(new ArchiveRecord(ArchiveRecord.Type.XHR, String.valueOf(values.get(0)),
+                        Instant.ofEpochMilli(((Number) values.get(3)).longValue()), functions, crawlSeq,
+                        String.valueOf(values.get(1)),
+                        String.valueOf(values.get(2)).getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            // Індекс впорядкований за часом: XHR захоплені раніше за фінальний DOM
+            records.sort(Comparator.comparing(ArchiveRecord::capturedAt));
+            records.add(new ArchiveRecord(ArchiveRecord.Type.PAGE, pageUrl, capturedAt, functions, crawlSeq,
+                "text/html; charset=utf-8", pageSource));
+            long bytes = append(records);
+            log.info("🗄️ Archived crawl #{} for {}: page {} KB ({} detached cards) + {} XHR payloads "
+                    + "({} KB compressed)", crawlSeq, functions, pageSource.length / 1024, detached.size(),
+                records.size() - 1, bytes / 1024);
+        } catch (Exception e) {
+            outcome = "failed";
+            log.warn("⚠️ Could not archive crawl for {}: {}", jobFunctions, e.getMessage());
+        } finally {
+            detachedCards.remove();
+            crawlMetrics.stop(sample, CrawlMetrics.Stage.ARCHIVE, jobFunctions, outcome);
+        }
+    }
+
+    /**
+     * Дописує записи в поточний сегмент та індекс
+     *
+     * @return кількість записаних стиснутих байтів
+     */
+    synchronized long append(List<ArchiveRecord> records) throws IOException {
+        long written = 0;
+        try (FileChannel index = FileChannel.open(root().resolve(INDEX_FILE), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            FileChannel segmentChannel = openSegment();
+            try {
+                for (ArchiveRecord record : records) {
+                    if (segmentChannel.size() >= maxSegmentMb * 1024 * 1024) {
+                        segmentChannel.close();
+                        segment++;
+                        segmentChannel = openSegment();
+                    }
+                    long offset = segmentChannel.size();
+                    ByteBuffer member = ByteBuffer.wrap(compress(record));
+                    int length = member.remaining();
+                    while (member.hasRemaining()) {
+                        segmentChannel.write(member);
+                    }
+                    // Індекс лишається відсортованим навіть для XHR скрапінгів, що перекриваються
+                    lastIndexedMillis = Math.max(lastIndexedMillis, record.capturedAt().toEpochMilli());
+                    PageArchiveIndex.append(index, new PageArchiveIndex.Entry(lastIndexedMillis,
+                        segment, offset, length, record.type(), record.crawlSeq()));
+                    written += length;
+                }
+                segmentChannel.force(false);
+            } finally {
+                segmentChannel.close();
+            }
+            index.force(false);
+        }
+        return written;
+    }
+
+    /**
+     * Знімок індексу, відображений в пам'ять
+     */
+    PageArchiveIndex index() throws IOException {
+        return PageArchiveIndex.map(root().resolve(INDEX_FILE));
+    }
+
+    /**
+     * Читає запис за положенням з індексу (позиційне читання, безпечне з кількох потоків)
+     */
+    ArchiveRecord read(PageArchiveIndex.Entry entry) throws IOException {
+        ByteBuffer member = ByteBuffer.allocate(entry.length());
+        try (FileChannel channel = FileChannel.open(segmentPath(entry.segment()), StandardOpenOption.READ)) {
+            while (member.hasRemaining()) {
+                if (channel.read(member, entry.offset() + member.position()) < 0) {
+                    throw new IOException("Truncated archive record at segment " + entry.segment()
+                        + " offset " + entry.offset());
+                }
+            }
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(member.array()))) {
+            return parse(in, entry);
+        }
+    }
+
+    /**
+     * Повертає прибрані картки в кінець body, де їх знайдуть селектори replay
+     */
+    static String withDetachedCards(String pageSource, List<String> detached) {
+        if (detached.isEmpty()) {
+            return pageSource;
+        }
+        StringBuilder cards = new StringBuilder(detached.stream().mapToInt(String::length).sum() + 64)
+            .append("<div data-archive-detached=\"").append(detached.size()).append("\">");
+        detached.forEach(cards::append);
+        cards.append("</div>");
+        int bodyEnd = pageSource.toLowerCase(Locale.ROOT).lastIndexOf("</body>");
+        return bodyEnd < 0
+            ? pageSource + cards
+            : pageSource.substring(0, bodyEnd) + cards + pageSource.substring(bodyEnd);
+    }
+
+    private synchronized int nextCrawlSeq() {
+        return ++lastCrawlSeq;
+    }
+
+    private FileChannel openSegment() throws IOException {
+        return FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(int number) {
+        return root().resolve(String.format("segment-%05d.warc.gz", number));
+    }
+
+    private Path root() {
+        return Path.of(directory);
+    }
+
+    private static byte[] compress(ArchiveRecord record) throws IOException {
+        StringBuilder header = new StringBuilder(512)
+            .append("WARC/1.1\r\n")
+            .append("WARC-Type: resource\r\n")
+            .append("WARC-Record-ID: <urn:uuid:").append(UUID.randomUUID()).append(">\r\n")
+            .append("WARC-Date: ").append(record.capturedAt()).append("\r\n")
+            .append("WARC-Target-URI: ").append(record.targetUri()).append("\r\n")
+            .append("Content-Type: ").append(record.contentType()).append("\r\n")
+            .append("X-Archive-Record: ").append(record.type().name().toLowerCase()).append("\r\n")
+            .append("X-Crawl-Seq: ").append(record.crawlSeq()).append("\r\n")
+            .append("X-Job-Functions: ").append(String.join(",", record.jobFunctions().stream()
+                .map(function -> URLEncoder.encode(function, StandardCharsets.UTF_8)).toList())).append("\r\n")
+            .append("Content-Length: ").append(record.body().length).append("\r\n")
+            .append("\r\n");
+        ByteArrayOutputStream out = new ByteArrayOutputStream(record.body().length / 4 + 512);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(header.toString().getBytes(StandardCharsets.UTF_8));
+            gzip.write(record.body());
+            gzip.write("\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static ArchiveRecord parse(InputStream in, PageArchiveIndex.Entry entry) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        }
+        byte[] body = in.readNBytes(Integer.parseInt(headers.getOrDefault("Content-Length", "0")));
+        String functions = headers.getOrDefault("X-Job-Functions", "");
+        return new ArchiveRecord(entry.type(), headers.get("WARC-Target-URI"),
+            Instant.parse(headers.get("WARC-Date")),
+            functions.isEmpty() ? List.of() : Arrays.stream(functions.split(","))
+                .map(function -> URLDecoder.decode(function, StandardCharsets.UTF_8)).toList(),
+            entry.crawlSeq(), headers.get("Content-Type"), body);
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+}
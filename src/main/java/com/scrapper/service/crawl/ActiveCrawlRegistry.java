@@ -0,0 +1,78 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.dto.ActiveCrawlDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Скрапінги, що виконуються зараз: профілі реєструються в CrawlRunService.begin і знімаються в
+ * finish. Стан читається з інших потоків (actuator), сам профіль оновлює тільки потік скрапінгу.
+ */
+@Service
+@Slf4j
+public class ActiveCrawlRegistry {
+
+    private final Map<Long, CrawlProfile> active = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    public void register(CrawlProfile profile) {
+        profile.setId(ids.incrementAndGet());
+        active.put(profile.getId(), profile);
+    }
+
+    public void unregister(CrawlProfile profile) {
+        active.remove(profile.getId(), profile);
+    }
+
+    public List<ActiveCrawlDto> list() {
+        return active.values().stream()
+            .sorted(Comparator.comparingLong(CrawlProfile::getId))
+            .map(this::toDto)
+            .toList();
+    }
+
+    /**
+     * Просить скрапінг зупинитися: наступна команда WebDriver на будь-якому етапі кидає
+     * CrawlCancelledException, скрапінг обривається без збереження
+     *
+     * @return false якщо скрапінгу з таким id немає (вже завершився)
+     */
+    public boolean cancel(long id) {
+        CrawlProfile profile = active.get(id);
+        if (profile == null) {
+            return false;
+        }
+        profile.requestCancel();
+        log.warn("🛑 Cancel requested for crawl #{} {} at stage {}, {} / {} cards",
+            id, profile.getJobFunctions(), profile.getStage(), profile.getCardsLoaded(),
+            profile.getDeclaredTotal());
+        return true;
+    }
+
+    private ActiveCrawlDto toDto(CrawlProfile profile) {
+        long browserPid = profile.getBrowserPid();
+        return ActiveCrawlDto.builder()
+            .id(profile.getId())
+            .source(profile.getSource())
+            .jobFunctions(profile.getJobFunctions())
+            .stage(profile.getStage())
+            .elapsedMs(profile.getDurationMillis())
+            .cardsLoaded(profile.getCardsLoaded())
+            .declaredTotal(profile.getDeclaredTotal())
+            .scrollIterations(profile.getScrollIterations())
+            .scrollsWithoutProgress(profile.getScrollsWithoutProgress())
+            .maxScrollsWithoutProgress(profile.getMaxScrollsWithoutProgress())
+            .scrollDelayMs(profile.getScrollDelayMillis())
+            .msSinceProgress(profile.getMillisSinceProgress())
+            .browserPid(browserPid)
+            .browserRssKb(CrawlProfile.processTreeRssKb(browserPid))
+            .cancelRequested(profile.isCancelRequested())
+            .build();
+    }
+}
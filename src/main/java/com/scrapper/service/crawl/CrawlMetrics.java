@@ -0,0 +1,179 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.service.webdriver.WebDriverCommandStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Метрики скрапінгу (Micrometer, експорт у Prometheus через /actuator/prometheus).
+ * Таймери етапів мають теги stage, job_function та outcome; лічильники карток - status;
+ * gauge показує кількість живих браузерів.
+ */
+@Service
+public class CrawlMetrics {
+
+    private static final String STAGE_TIMER = "scraper.crawl.stage";
+    private static final String EXTRACTION_TIMER = "scraper.card.extraction";
+    private static final String CARDS_COUNTER = "scraper.cards";
+
+    private final MeterRegistry registry;
+    private final AtomicInteger liveBrowsers = new AtomicInteger();
+
+    public CrawlMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("scraper.browsers.live", liveBrowsers, AtomicInteger::get)
+            .description("Chrome instances currently open")
+            .register(registry);
+    }
+
+    /**
+     * Етапи скрапінгу (значення тегу stage)
+     */
+    public enum Stage {
+        DRIVER_CREATION("driver_creation"),
+        PAGE_LOAD("page_load"),
+        FILTER_CLICK("filter_click"),
+        LOAD_ALL_JOBS("load_all_jobs"),
+        CARD_DISCOVERY("card_discovery"),
+        ARCHIVE("archive"),
+        SAVE_JOBS("save_jobs");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * Статуси карток (значення тегу status)
+     */
+    public enum CardStatus {
+        SEEN, VALID, SKIPPED, FAILED
+    }
+
+    /**
+     * Починає вимір етапу; етап стає поточним у профілі скрапінгу
+     */
+    public Timer.Sample start(Stage stage) {
+        CrawlProfile profile = CrawlProfile.current();
+        if (profile != null) {
+            profile.enterStage(stage.tag);
+        }
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, Stage stage, Collection<String> jobFunctions, String outcome) {
+        long nanos = sample.stop(Timer.builder(STAGE_TIMER)
+            .description("Wall-clock time of a crawl stage")
+            .tag("stage", stage.tag)
+            .tag("job_function", functionTag(jobFunctions))
+            .tag("outcome", outcome)
+            .register(registry));
+        CrawlProfile profile = CrawlProfile.current();
+        if (profile != null) {
+            profile.addStage(stage.tag, nanos);
+        }
+    }
+
+    /**
+     * Час екстракції пакета розподіляється порівну між його картками
+     */
+    public void recordExtraction(String backend, Collection<String> jobFunctions, long batchNanos,
+                                 int cards) {
+        if (cards <= 0) {
+            return;
+        }
+        Timer timer = Timer.builder(EXTRACTION_TIMER)
+            .description("Field extraction time per job card")
+            .tag("backend", backend.toLowerCase(Locale.ROOT))
+            .tag("job_function", functionTag(jobFunctions))
+            .register(registry);
+        CrawlProfile profile = CrawlProfile.current();
+        if (profile != null) {
+            profile.addStage("card_extraction", batchNanos);
+        }
+        Duration perCard = Duration.ofNanos(batchNanos / cards);
+        for (int i = 0; i < cards; i++) {
+            timer.record(perCard);
+        }
+    }
+
+    public void countCards(CardStatus status, Collection<String> jobFunctions, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder(CARDS_COUNTER)
+            .description("Job cards by processing status")
+            .tag("status", status.name().toLowerCase(Locale.ROOT))
+            .tag("job_function", functionTag(jobFunctions))
+            .register(registry)
+            .increment(amount);
+    }
+
+    /**
+     * Вакансії union скрапінгу, функцію яких не вдалося визначити (збережені як UNRESOLVED)
+     */
+    public void countUnresolvedJobFunctions(Collection<String> jobFunctions, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder("scraper.job_function.unresolved")
+            .description("Union crawl jobs whose job function could not be resolved")
+            .tag("job_function", functionTag(jobFunctions))
+            .register(registry)
+            .increment(amount);
+    }
+
+    /**
+     * Команди WebDriver завершеного скрапінгу: кількість та сумарний час за типом команди
+     */
+    public void recordWebDriverCommands(Map<String, WebDriverCommandStats.Stat> byType) {
+        byType.forEach((command, stat) -> {
+            Counter.builder("scraper.webdriver.commands")
+                .description("WebDriver commands sent to chromedriver")
+                .tag("command", command)
+                .register(registry)
+                .increment(stat.count());
+            Counter.builder("scraper.webdriver.command.time")
+                .description("Total time spent in WebDriver commands")
+                .baseUnit("seconds")
+                .tag("command", command)
+                .register(registry)
+                .increment(stat.nanos() / 1e9);
+        });
+    }
+
+    public void browserOpened() {
+        liveBrowsers.incrementAndGet();
+    }
+
+    public void browserClosed() {
+        liveBrowsers.decrementAndGet();
+    }
+
+    /**
+     * Набір функцій як значення тегу: в нижньому регістрі, відсортований, "all" - без фільтра
+     */
+    public static String functionTag(Collection<String> jobFunctions) {
+        if (jobFunctions == null || jobFunctions.isEmpty()) {
+            return "all";
+        }
+        return jobFunctions.stream()
+            .filter(function -> function != null && !function.isBlank())
+            .map(function -> function.trim().toLowerCase(Locale.ROOT))
+            .distinct()
+            .sorted()
+            .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,115 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.model.CrawlFingerprint;
+import com.scrapper.repository.crawl.CrawlFingerprintRepository;
+import com.scrapper.service.PageInteractionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Дешевий probe перед повним скрапінгом.
+ * Після застосування фільтрів зчитує "Showing X jobs" та URL першої сторінки карток і
+ * порівнює їх з відбитком останнього повного скрапінгу. Якщо нічого не змінилось -
+ * прокрутка loadAllAvailableJobs та екстракція пропускаються.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlProbeService {
+
+    public static final String DECISION_SKIP = "skip";
+    public static final String DECISION_CRAWL = "crawl";
+
+    @Value("${scraping.probe.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scraping.probe.first-page-size:20}")
+    private int firstPageSize;
+
+    private final CrawlFingerprintRepository fingerprintRepository;
+    private final PageInteractionService pageInteractionService;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Порівнює поточну сторінку з відбитком та записує рішення
+     */
+    public ProbeResult probe(WebDriver driver, List<String> jobFunctions, int declaredCount) {
+        long startedAt = System.currentTimeMillis();
+        String filterKey = filterKey(jobFunctions);
+        List<String> firstPageUrls = pageInteractionService.collectLoadedJobUrls(driver,
+            firstPageSize);
+        String firstPageHash = hash(firstPageUrls);
+
+        CrawlFingerprint fingerprint = fingerprintRepository.findById(filterKey).orElse(null);
+        boolean unchanged = fingerprint != null
+            && declaredCount > 0
+            && !firstPageUrls.isEmpty()
+            && fingerprint.getDeclaredCount() == declaredCount
+            && firstPageHash.equals(fingerprint.getFirstPageHash());
+
+        if (fingerprint != null) {
+            fingerprint.setLastProbeAt(Instant.now().getEpochSecond());
+            fingerprint.setLastDecision(unchanged ? DECISION_SKIP : DECISION_CRAWL);
+            if (unchanged) {
+                fingerprint.setSkippedCrawls(fingerprint.getSkippedCrawls() + 1);
+            }
+            fingerprintRepository.save(fingerprint);
+        }
+
+        log.info("🔎 Probe '{}': declared {} (was {}), first page {} urls, hash {} -> {} in {} ms",
+            filterKey, declaredCount, fingerprint != null ? fingerprint.getDeclaredCount() : "-",
+            firstPageUrls.size(), fingerprint != null && firstPageHash.equals(
+                fingerprint.getFirstPageHash()) ? "same" : "changed",
+            unchanged ? DECISION_SKIP : DECISION_CRAWL, System.currentTimeMillis() - startedAt);
+
+        return new ProbeResult(filterKey, declaredCount, firstPageHash, unchanged);
+    }
+
+    /**
+     * Зберігає відбиток після успішного повного скрапінгу
+     */
+    public void recordFullCrawl(ProbeResult probe) {
+        long now = Instant.now().getEpochSecond();
+        CrawlFingerprint fingerprint = fingerprintRepository.findById(probe.filterKey())
+            .orElseGet(() -> CrawlFingerprint.builder().filterKey(probe.filterKey()).build());
+        fingerprint.setDeclaredCount(probe.declaredCount());
+        fingerprint.setFirstPageHash(probe.firstPageHash());
+        fingerprint.setCrawledAt(now);
+        fingerprint.setLastProbeAt(now);
+        fingerprint.setLastDecision(DECISION_CRAWL);
+        fingerprintRepository.save(fingerprint);
+    }
+
+    private String filterKey(List<String> jobFunctions) {
+        if (jobFunctions == null || jobFunctions.isEmpty()) {
+            return "*";
+        }
+        return jobFunctions.stream()
+            .map(function -> function.trim().toLowerCase(Locale.ROOT))
+            .sorted()
+            .distinct()
+            .collect(Collectors.joining("|"));
+    }
+
+    private String hash(List<String> urls) {
+        return DigestUtils.md5DigestAsHex(String.join("\n", urls)
+            .getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record ProbeResult(String filterKey, int declaredCount, String firstPageHash,
+                              boolean unchanged) {
+    }
+}
@@ -0,0 +1,296 @@
+package com.scrapper.service.crawl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Профіль одного скрапінгу: час етапів, кількість команд WebDriver, ітерацій прокрутки,
+ * час фіксованих пауз, SQL запити (з них на запис), піковий RSS процесів Chrome.
+ * Скрапінг виконується в одному потоці, тому поточний профіль тримається в ThreadLocal -
+ * так до нього мають доступ і Spring сервіси, і об'єкти, створені не Spring (Hibernate, Selenium).
+ * Поля поточного стану (етап, прогрес прокрутки, браузер, скасування) volatile - їх читає
+ * actuator endpoint активних скрапінгів з інших потоків.
+ */
+public final class CrawlProfile {
+
+    private static final ThreadLocal<CrawlProfile> CURRENT = new ThreadLocal<>();
+
+    // Обхід /proc коштує мілісекунди, тож RSS Chrome знімається не частіше за цей інтервал
+    private static final long MEMORY_SAMPLE_INTERVAL_NANOS = 2_000_000_000L;
+
+    private final String source;
+    private final List<String> jobFunctions;
+    private final long startedAtMillis = System.currentTimeMillis();
+    private final long startedAtNanos = System.nanoTime();
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+    private long durationNanos = -1;
+    private long webDriverCommands;
+    private volatile int scrollIterations;
+    private long sleepMillis;
+    private long dbStatements;
+    private long writeStatements;
+    private long peakChromeRssKb = -1;
+    private long lastMemorySampleNanos;
+
+    private volatile long id;
+    private volatile String stage = "starting";
+    private volatile int cardsLoaded;
+    private volatile int declaredTotal = -1;
+    private volatile int scrollsWithoutProgress;
+    private volatile int maxScrollsWithoutProgress;
+    private volatile long scrollDelayMillis = -1;
+    private volatile long lastProgressNanos = startedAtNanos;
+    private volatile long browserPid = -1;
+    private volatile boolean cancelRequested;
+
+    private CrawlProfile(String source, List<String> jobFunctions) {
+        this.source = source;
+        this.jobFunctions = jobFunctions != null ? List.copyOf(jobFunctions) : List.of();
+    }
+
+    /**
+     * Починає профіль для поточного потоку
+     */
+    public static CrawlProfile start(String source, List<String> jobFunctions) {
+        CrawlProfile profile = new CrawlProfile(source, jobFunctions);
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /**
+     * Профіль скрапінгу поточного потоку або null поза скрапінгом
+     */
+    public static CrawlProfile current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Завершує профіль і відв'язує його від потоку
+     */
+    public CrawlProfile end() {
+        if (durationNanos < 0) {
+            durationNanos = System.nanoTime() - startedAtNanos;
+            sampleChromeMemory();
+        }
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+        return this;
+    }
+
+    /**
+     * Етап, що почався (для активних скрапінгів); час етапу додає addStage після завершення
+     */
+    public void enterStage(String stage) {
+        this.stage = stage;
+    }
+
+    public void addStage(String stage, long nanos) {
+        stageNanos.merge(stage, nanos, Long::sum);
+        sampleChromeMemoryThrottled();
+    }
+
+    public void countWebDriverCommand() {
+        webDriverCommands++;
+    }
+
+    public void countScrollIteration() {
+        scrollIterations++;
+        sampleChromeMemoryThrottled();
+    }
+
+    /**
+     * Стан циклу прокрутки після чергового підрахунку карток
+     */
+    public void updateScrollProgress(int cardsLoaded, int declaredTotal, int scrollsWithoutProgress,
+                                     int maxScrollsWithoutProgress, long scrollDelayMillis) {
+        if (cardsLoaded > this.cardsLoaded) {
+            lastProgressNanos = System.nanoTime();
+        }
+        this.cardsLoaded = cardsLoaded;
+        this.declaredTotal = declaredTotal;
+        this.scrollsWithoutProgress = scrollsWithoutProgress;
+        this.maxScrollsWithoutProgress = maxScrollsWithoutProgress;
+        this.scrollDelayMillis = scrollDelayMillis;
+    }
+
+    /**
+     * PID процесу Chrome поточного драйвера, -1 після закриття
+     */
+    public void attachBrowser(long pid) {
+        browserPid = pid;
+    }
+
+    public void detachBrowser() {
+        browserPid = -1;
+    }
+
+    /**
+     * Запит на скасування з іншого потоку: CommandCountingDecorator обриває скрапінг на наступній команді
+     */
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public void addSleep(long millis) {
+        sleepMillis += millis;
+    }
+
+    /**
+     * Кожен SQL запит; insert/update/delete рахуються окремо як запити на запис
+     * (кількість змінених рядків тут невідома)
+     */
+    public void countStatement(String sql) {
+        dbStatements++;
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        if (sql.regionMatches(true, start, "insert", 0, 6)
+            || sql.regionMatches(true, start, "update", 0, 6)
+            || sql.regionMatches(true, start, "delete", 0, 6)) {
+            writeStatements++;
+        }
+    }
+
+    /**
+     * Оновлює піковий RSS: VmRSS браузера цього скрапінгу з його рендерерами (тільки Linux).
+     * Паралельні скрапінги з власними браузерами не змішуються
+     */
+    public void sampleChromeMemory() {
+        lastMemorySampleNanos = System.nanoTime();
+        long rss = processTreeRssKb(browserPid);
+        if (rss > peakChromeRssKb) {
+            peakChromeRssKb = rss;
+        }
+    }
+
+    private void sampleChromeMemoryThrottled() {
+        if (peakChromeRssKb < 0 || System.nanoTime() - lastMemorySampleNanos >= MEMORY_SAMPLE_INTERVAL_NANOS) {
+            sampleChromeMemory();
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    void setId(long id) {
+        this.id = id;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public List<String> getJobFunctions() {
+        return jobFunctions;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public long getDurationMillis() {
+        return (durationNanos >= 0 ? durationNanos : System.nanoTime() - startedAtNanos) / 1_000_000;
+    }
+
+    public Map<String, Long> getStageMillis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        stageNanos.forEach((stage, nanos) -> millis.put(stage, nanos / 1_000_000));
+        return millis;
+    }
+
+    public long getWebDriverCommands() {
+        return webDriverCommands;
+    }
+
+    public int getScrollIterations() {
+        return scrollIterations;
+    }
+
+    public long getSleepMillis() {
+        return sleepMillis;
+    }
+
+    public long getDbStatements() {
+        return dbStatements;
+    }
+
+    public long getWriteStatements() {
+        return writeStatements;
+    }
+
+    public long getPeakChromeRssKb() {
+        return peakChromeRssKb;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public int getCardsLoaded() {
+        return cardsLoaded;
+    }
+
+    public int getDeclaredTotal() {
+        return declaredTotal;
+    }
+
+    public int getScrollsWithoutProgress() {
+        return scrollsWithoutProgress;
+    }
+
+    public int getMaxScrollsWithoutProgress() {
+        return maxScrollsWithoutProgress;
+    }
+
+    public long getScrollDelayMillis() {
+        return scrollDelayMillis;
+    }
+
+    public long getMillisSinceProgress() {
+        return (System.nanoTime() - lastProgressNanos) / 1_000_000;
+    }
+
+    public long getBrowserPid() {
+        return browserPid;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    /**
+     * Сумарний VmRSS процесу та його нащадків (браузер з рендерерами), -1 якщо недоступно
+     */
+    public static long processTreeRssKb(long pid) {
+        Path proc = Path.of("/proc");
+        if (pid <= 0 || !Files.isDirectory(proc)) {
+            return -1;
+        }
+        return ProcessHandle.of(pid)
+            .map(process -> Stream.concat(Stream.of(process), process.descendants())
+                .mapToLong(member -> readRssKb(proc.resolve(member.pid() + "/status")))
+                .sum())
+            .orElse(-1L);
+    }
+
+    private static long readRssKb(Path status) {
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // процес вже завершився
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,119 @@
+package com.scrapper.service.crawl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrapper.dto.CrawlProfileDto;
+import com.scrapper.model.CrawlRun;
+import com.scrapper.repository.crawl.CrawlRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Зберігає профілі скрапінгів у crawl_runs і повертає останні запуски
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlRunService {
+
+    private final CrawlRunRepository crawlRunRepository;
+    private final ObjectMapper objectMapper;
+    private final ActiveCrawlRegistry activeCrawlRegistry;
+
+    /**
+     * Починає профіль скрапінгу для поточного потоку і показує його серед активних
+     */
+    public CrawlProfile begin(String source, List<String> jobFunctions) {
+        CrawlProfile profile = CrawlProfile.start(source, jobFunctions);
+        activeCrawlRegistry.register(profile);
+        return profile;
+    }
+
+    /**
+     * Завершує профіль і зберігає його; помилка збереження не впливає на результат скрапінгу
+     */
+    public CrawlProfileDto finish(CrawlProfile profile, String outcome, int jobsFound, int jobsSaved) {
+        profile.end();
+        activeCrawlRegistry.unregister(profile);
+        CrawlRun run = CrawlRun.builder()
+            .source(profile.getSource())
+            .jobFunctions(String.join(",", profile.getJobFunctions()))
+            .startedAt(profile.getStartedAtMillis() / 1000)
+            .durationMs(profile.getDurationMillis())
+            // Скасований скрапінг обривається CrawlCancelledException, але в історії це не помилка
+            .outcome(profile.isCancelRequested() ? "cancelled" : outcome)
+            .jobsFound(jobsFound)
+            .jobsSaved(jobsSaved)
+            .webdriverCommands(profile.getWebDriverCommands())
+            .scrollIterations(profile.getScrollIterations())
+            .sleepMs(profile.getSleepMillis())
+            .dbStatements(profile.getDbStatements())
+            .writeStatements(profile.getWriteStatements())
+            .peakChromeRssKb(profile.getPeakChromeRssKb())
+            .stageMillis(writeStages(profile.getStageMillis()))
+            .build();
+        try {
+            run = crawlRunRepository.save(run);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not save crawl run profile: {}", e.getMessage());
+        }
+        log.info("⏱️ Crawl profile: {} ms total, stages {}, {} WebDriver commands, {} scrolls, "
+                + "{} ms sleeping, {} SQL statements ({} writes), peak Chrome RSS {} MB",
+            run.getDurationMs(), profile.getStageMillis(), run.getWebdriverCommands(),
+            run.getScrollIterations(), run.getSleepMs(), run.getDbStatements(),
+            run.getWriteStatements(), run.getPeakChromeRssKb() / 1024);
+        return toDto(run);
+    }
+
+    public List<CrawlProfileDto> recent(int limit) {
+        return crawlRunRepository.findAllByOrderByStartedAtDescIdDesc(
+                PageRequest.of(0, Math.max(1, Math.min(limit, 500))))
+            .stream()
+            .map(this::toDto)
+            .toList();
+    }
+
+    private CrawlProfileDto toDto(CrawlRun run) {
+        return CrawlProfileDto.builder()
+            .id(run.getId())
+            .source(run.getSource())
+            .jobFunctions(run.getJobFunctions().isEmpty()
+                ? List.of() : Arrays.asList(run.getJobFunctions().split(",")))
+            .startedAt(run.getStartedAt())
+            .durationMs(run.getDurationMs())
+            .outcome(run.getOutcome())
+            .jobsFound(run.getJobsFound())
+            .jobsSaved(run.getJobsSaved())
+            .stageMillis(readStages(run.getStageMillis()))
+            .webdriverCommands(run.getWebdriverCommands())
+            .scrollIterations(run.getScrollIterations())
+            .sleepMs(run.getSleepMs())
+            .dbStatements(run.getDbStatements())
+            .writeStatements(run.getWriteStatements())
+            .peakChromeRssKb(run.getPeakChromeRssKb())
+            .build();
+    }
+
+    private String writeStages(Map<String, Long> stages) {
+        try {
+            return objectMapper.writeValueAsString(stages);
+        } catch (Exception e) {
+            return "{}";
+        }
+    }
+
+    private Map<String, Long> readStages(String json) {
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, Long>>() {
+            });
+        } catch (Exception e) {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.model.CrawlScheduleState;
+import com.scrapper.model.Job;
+import com.scrapper.model.JobFunction;
+import com.scrapper.repository.crawl.CrawlScheduleStateRepository;
+import com.scrapper.service.ApplyUrlScraperService;
+import com.scrapper.service.JobIngestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Вбудований планувальник інкрементального скрапінгу.
+ * Для кожної job function тримає власний інтервал, який підлаштовується під історичну
+ * швидкість появи нових вакансій, але ніколи не перевищує freshness SLA.
+ * Старти розносяться випадковим jitter, щоб функції не запускались одночасно.
+ * За один тік виконується не більше одного скрапінгу - браузери працюють послідовно.
+ * В union та конвеєрному режимах всі функції, яким настав час, скрапляться одним браузером,
+ * а результат розкладається по функціях локально.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "scraping.scheduler.enabled", havingValue = "true")
+public class CrawlSchedulerService {
+
+    private static final double UNKNOWN_RATE = -1;
+
+    @Value("${scraping.scheduler.initial-interval-minutes:360}")
+    private long initialIntervalMinutes;
+
+    @Value("${scraping.scheduler.min-interval-minutes:60}")
+    private long minIntervalMinutes;
+
+    @Value("${scraping.scheduler.freshness-sla-minutes:1440}")
+    private long freshnessSlaMinutes;
+
+    @Value("${scraping.scheduler.target-new-jobs-per-crawl:10}")
+    private double targetNewJobsPerCrawl;
+
+    @Value("${scraping.scheduler.rate-smoothing:0.3}")
+    private double rateSmoothing;
+
+    @Value("${scraping.scheduler.jitter-ratio:0.1}")
+    private double jitterRatio;
+
+    @Value("${scraping.union.enabled:false}")
+    private boolean unionEnabled;
+
+    @Value("${scraping.pipeline.enabled:false}")
+    private boolean pipelineEnabled;
+
+    private final CrawlScheduleStateRepository scheduleStateRepository;
+    private final ApplyUrlScraperService scraperService;
+    private final JobIngestService jobIngestService;
+    private final CrawlRunService crawlRunService;
+
+    @Scheduled(initialDelayString = "${scraping.scheduler.initial-delay:60000}",
+        fixedDelayString = "${scraping.scheduler.tick-interval:60000}")
+    public void runNextDueCrawl() {
+        long now = Instant.now().getEpochSecond();
+        List<CrawlScheduleState> due = loadStates(now).stream()
+            .filter(state -> state.getNextRunAt() <= now)
+            .sorted(Comparator.comparingLong(CrawlScheduleState::getNextRunAt))
+            .toList();
+
+        if (!due.isEmpty()) {
+            crawl(unionEnabled || pipelineEnabled ? due : due.subList(0, 1));
+        }
+    }
+
+    private List<CrawlScheduleState> loadStates(long now) {
+        Map<JobFunction, CrawlScheduleState> states = scheduleStateRepository.findAll().stream()
+            .collect(Collectors.toMap(CrawlScheduleState::getJobFunction, Function.identity()));
+
+        for (JobFunction function : JobFunction.values()) {
+            if (!states.containsKey(function)) {
+                // Перший запуск розносимо по мінімальному інтервалу, щоб уникнути stampede
+                long offset = ThreadLocalRandom.current().nextLong(minIntervalMinutes * 60 + 1);
+                CrawlScheduleState state = CrawlScheduleState.builder()
+                    .jobFunction(function)
+                    .nextRunAt(now + offset)
+                    .intervalSeconds(initialIntervalMinutes * 60)
+                    .newJobsPerHour(UNKNOWN_RATE)
+                    .build();
+                states.put(function, scheduleStateRepository.save(state));
+                log.info("🗓️ Scheduled first crawl for '{}' in {} s", function, offset);
+            }
+        }
+        return List.copyOf(states.values());
+    }
+
+    private void crawl(List<CrawlScheduleState> states) {
+        List<String> functions = states.stream()
+            .map(state -> state.getJobFunction().toString())
+            .toList();
+        long startedAt = Instant.now().getEpochSecond();
+        states.forEach(state -> log.info("🗓️ Scheduled crawl for '{}' (interval {} min)",
+            state.getJobFunction(), state.getIntervalSeconds() / 60));
+
+        CrawlProfile profile = crawlRunService.begin("scheduler", functions);
+        int found = 0;
+        int savedTotal = 0;
+        String outcome = "success";
+        try {
+            List<Job> jobs = scraperService.scrapeAndCreateJobs(functions);
+            found = jobs.size();
+            Map<String, List<Job>> partitions = new JobFunctionPartitioner(functions).partition(jobs);
+            // Незіставлені вакансії зберігаються, але не входять у швидкість жодної функції
+            List<Job> unresolved = partitions.getOrDefault(JobFunctionPartitioner.UNRESOLVED, List.of());
+            if (!unresolved.isEmpty()) {
+                savedTotal += jobIngestService.saveJobs(unresolved);
+                log.warn("⚠️ {} jobs of the union crawl for {} have an unresolved job function",
+                    unresolved.size(), functions);
+            }
+            for (CrawlScheduleState state : states) {
+                JobFunction function = state.getJobFunction();
+                int saved = jobIngestService.saveJobs(
+                    partitions.getOrDefault(function.toString(), List.of()));
+                savedTotal += saved;
+                adaptInterval(state, startedAt, saved);
+                // Тільки успішний запуск: після збою вікно швидкості триває від останнього успіху
+                state.setLastRunAt(startedAt);
+                state.setLastOutcome(states.size() > 1 ? "ok (union)" : "ok");
+                log.info("✅ Scheduled crawl for '{}' finished: {} new jobs, rate {}/h, next in {} min",
+                    function, saved, String.format("%.2f", state.getNewJobsPerHour()),
+                    (state.getNextRunAt() - startedAt) / 60);
+            }
+        } catch (Exception e) {
+            // Після помилки (зокрема ScrapeFailedException) швидкість не оновлюється - 0 нових
+            // вакансій від зламаного скрапінгу розтягнув би інтервал до SLA.
+            // Повторюємо якнайшвидше, але не частіше мінімального інтервалу
+            for (CrawlScheduleState state : states) {
+                state.setNextRunAt(startedAt + withJitter(minIntervalMinutes * 60));
+                state.setLastOutcome("failed: " + e.getMessage());
+            }
+            log.error("❌ Scheduled crawl for {} failed: {}", functions, e.getMessage());
+            outcome = "failed";
+        }
+        crawlRunService.finish(profile, outcome, found, savedTotal);
+
+        for (CrawlScheduleState state : states) {
+            state.setTotalRuns(state.getTotalRuns() + 1);
+            scheduleStateRepository.save(state);
+        }
+    }
+
+    /**
+     * Оновлює EWMA швидкості появи вакансій та обчислює наступний інтервал:
+     * інтервал = цільова кількість нових вакансій / швидкість, в межах [min, SLA]
+     */
+    private void adaptInterval(CrawlScheduleState state, long now, int newJobs) {
+        long elapsed = state.getLastRunAt() > 0
+            ? now - state.getLastRunAt()
+            : state.getIntervalSeconds();
+        double observedRate = newJobs / Math.max(elapsed / 3600.0, 1.0 / 60);
+
+        double rate = state.getNewJobsPerHour() < 0
+            ? observedRate
+            : rateSmoothing * observedRate + (1 - rateSmoothing) * state.getNewJobsPerHour();
+
+        long minInterval = minIntervalMinutes * 60;
+        long maxInterval = freshnessSlaMinutes * 60;
+        long interval = rate > 0
+            ? (long) (targetNewJobsPerCrawl / rate * 3600)
+            : maxInterval;
+        interval = Math.max(minInterval, Math.min(maxInterval, interval));
+
+        state.setNewJobsPerHour(rate);
+        state.setLastNewJobs(newJobs);
+        state.setIntervalSeconds(interval);
+        state.setNextRunAt(now + Math.min(withJitter(interval), maxInterval));
+    }
+
+    private long withJitter(long intervalSeconds) {
+        if (jitterRatio <= 0) {
+            return intervalSeconds;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+        return Math.max(1, (long) (intervalSeconds * factor));
+    }
+}
@@ -0,0 +1,19 @@
+package com.scrapper.service.crawl;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Рахує SQL запити Hibernate у профіль поточного скрапінгу. SQL не змінюється.
+ * Реєструється через spring.jpa.properties.hibernate.session_factory.statement_inspector.
+ */
+public class CrawlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        CrawlProfile profile = CrawlProfile.current();
+        if (profile != null) {
+            profile.countStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,286 @@
+package com.scrapper.service.crawl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrapper.model.JobFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Будує URL відфільтрованого списку вакансій замість кліків по dropdown "Job function".
+ * Схема URL не захардкоджена: вона вивчається один раз з адреси сторінки після першого
+ * успішного застосування фільтрів через UI і кешується. Дошки Getro зберігають стан фільтрів
+ * як base64 JSON у query-параметрі, але підтримується і звичайний параметр зі значенням функції.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FilterUrlResolver {
+
+    @Value("${scraping.deep-link.enabled:true}")
+    private boolean enabled;
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<FilterUrlScheme> scheme = new AtomicReference<>();
+
+    // Назва функції в нижньому регістрі -> точне значення, яке використовує дошка
+    private final Map<String, String> boardLabels = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean hasScheme() {
+        return scheme.get() != null;
+    }
+
+    /**
+     * URL зі вже застосованими фільтрами або empty, якщо схема ще не відома
+     */
+    public Optional<String> resolve(List<String> jobFunctions) {
+        FilterUrlScheme current = scheme.get();
+        if (!enabled || current == null || jobFunctions == null || jobFunctions.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> labels = jobFunctions.stream().map(this::boardLabel).toList();
+        try {
+            return Optional.of(current.build(labels, objectMapper));
+        } catch (Exception e) {
+            log.warn("⚠️ Could not build deep link for {}: {}", jobFunctions, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Чи поточна адреса вже містить саме ці фільтри (deep link не був відкинутий сайтом)
+     */
+    public boolean isApplied(String currentUrl, List<String> jobFunctions) {
+        FilterUrlScheme current = scheme.get();
+        if (!enabled || current == null || currentUrl == null || jobFunctions == null
+            || jobFunctions.isEmpty()) {
+            return false;
+        }
+        Set<String> expected = jobFunctions.stream()
+            .map(function -> boardLabel(function).toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+        Set<String> actual = current.extractValues(currentUrl, objectMapper).stream()
+            .map(value -> value.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+        return actual.equals(expected);
+    }
+
+    /**
+     * Вивчає схему з адреси сторінки після застосування фільтрів через UI
+     */
+    public void learn(String filteredUrl, List<String> appliedFunctions) {
+        if (!enabled || filteredUrl == null || appliedFunctions == null
+            || appliedFunctions.isEmpty()) {
+            return;
+        }
+        try {
+            UriComponents uri = UriComponentsBuilder.fromUriString(filteredUrl).build();
+            String base = baseOf(uri);
+            MultiValueMap<String, String> params = uri.getQueryParams();
+
+            for (Map.Entry<String, List<String>> param : params.entrySet()) {
+                List<String> values = param.getValue().stream()
+                    .filter(value -> value != null)
+                    .map(value -> URLDecoder.decode(value, StandardCharsets.UTF_8))
+                    .toList();
+
+                // 1. Стан фільтрів як base64 JSON
+                for (String value : values) {
+                    JsonNode json = decodeJson(value);
+                    if (json == null || !json.isObject()) {
+                        continue;
+                    }
+                    Iterator<Map.Entry<String, JsonNode>> fields = json.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        List<String> labels = textValues(field.getValue());
+                        if (coversAll(labels, appliedFunctions)) {
+                            boolean urlSafe = value.indexOf('-') >= 0 || value.indexOf('_') >= 0;
+                            remember(new FilterUrlScheme(base, param.getKey(),
+                                Encoding.BASE64_JSON, field.getKey(), urlSafe), labels);
+                            return;
+                        }
+                    }
+                }
+
+                // 2. Звичайний параметр (або повторюваний параметр) зі значеннями функцій
+                if (coversAll(values, appliedFunctions)) {
+                    remember(new FilterUrlScheme(base, param.getKey(), Encoding.QUERY, null,
+                        false), values);
+                    return;
+                }
+            }
+            log.debug("🔗 Filter state is not reflected in URL '{}', deep links unavailable",
+                filteredUrl);
+        } catch (Exception e) {
+            log.debug("⚠️ Could not learn deep link scheme from '{}': {}", filteredUrl,
+                e.getMessage());
+        }
+    }
+
+    /**
+     * Скидає схему, якщо сайт перестав приймати deep link - наступний UI прохід вивчить її знову
+     */
+    public void invalidate(String reason) {
+        if (scheme.getAndSet(null) != null) {
+            log.warn("⚠️ Deep link scheme invalidated: {}", reason);
+        }
+    }
+
+    private void remember(FilterUrlScheme learned, List<String> labels) {
+        labels.forEach(label -> boardLabels.put(label.toLowerCase(Locale.ROOT), label));
+        if (!learned.equals(scheme.getAndSet(learned))) {
+            log.info("🔗 Learned deep link scheme: {}?{}=<{}{}>", learned.base(), learned.param(),
+                learned.encoding(), learned.jsonKey() != null ? ":" + learned.jsonKey() : "");
+        }
+    }
+
+    private String boardLabel(String jobFunction) {
+        String known = boardLabels.get(jobFunction.toLowerCase(Locale.ROOT));
+        if (known != null) {
+            return known;
+        }
+        for (JobFunction function : JobFunction.values()) {
+            if (function.name().equalsIgnoreCase(jobFunction)
+                || function.toString().equalsIgnoreCase(jobFunction)) {
+                return function.toString();
+            }
+        }
+        return jobFunction;
+    }
+
+    private JsonNode decodeJson(String value) {
+        for (Base64.Decoder decoder : List.of(Base64.getDecoder(), Base64.getUrlDecoder())) {
+            try {
+                byte[] decoded = decoder.decode(value.replace(' ', '+'));
+                return objectMapper.readTree(decoded);
+            } catch (Exception e) {
+                // не base64 JSON - пробуємо наступний варіант
+            }
+        }
+        return null;
+    }
+
+    private static List<String> textValues(JsonNode node) {
+        List<String> values = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(item -> {
+                if (item.isTextual()) {
+                    values.add(item.asText());
+                }
+            });
+        } else if (node.isTextual()) {
+            values.add(node.asText());
+        }
+        return values;
+    }
+
+    private static boolean coversAll(List<String> values, List<String> functions) {
+        if (values.isEmpty()) {
+            return false;
+        }
+        Set<String> normalized = values.stream()
+            .map(value -> value.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+        return functions.stream()
+            .allMatch(function -> normalized.contains(function.toLowerCase(Locale.ROOT)));
+    }
+
+    private static String baseOf(UriComponents uri) {
+        StringBuilder base = new StringBuilder();
+        base.append(uri.getScheme()).append("://").append(uri.getHost());
+        if (uri.getPort() != -1) {
+            base.append(':').append(uri.getPort());
+        }
+        if (uri.getPath() != null) {
+            base.append(uri.getPath());
+        }
+        return base.toString();
+    }
+
+    private enum Encoding {
+        BASE64_JSON,
+        QUERY
+    }
+
+    private record FilterUrlScheme(String base, String param, Encoding encoding, String jsonKey,
+                                   boolean urlSafe) {
+
+        String build(List<String> labels, ObjectMapper objectMapper) throws Exception {
+            StringBuilder url = new StringBuilder(base).append('?');
+            if (encoding == Encoding.BASE64_JSON) {
+                Map<String, List<String>> state = new LinkedHashMap<>();
+                state.put(jsonKey, labels);
+                byte[] json = objectMapper.writeValueAsBytes(state);
+                String encoded = (urlSafe ? Base64.getUrlEncoder() : Base64.getEncoder())
+                    .encodeToString(json);
+                url.append(param).append('=').append(encode(encoded));
+            } else {
+                for (int i = 0; i < labels.size(); i++) {
+                    if (i > 0) {
+                        url.append('&');
+                    }
+                    url.append(param).append('=').append(encode(labels.get(i)));
+                }
+            }
+            return url.toString();
+        }
+
+        List<String> extractValues(String url, ObjectMapper objectMapper) {
+            List<String> raw = UriComponentsBuilder.fromUriString(url).build()
+                .getQueryParams().getOrDefault(param, List.of());
+            List<String> values = new ArrayList<>();
+            for (String value : raw) {
+                if (value == null) {
+                    continue;
+                }
+                String decoded = URLDecoder.decode(value, StandardCharsets.UTF_8);
+                if (encoding == Encoding.QUERY) {
+                    values.add(decoded);
+                    continue;
+                }
+                try {
+                    byte[] json = (urlSafe ? Base64.getUrlDecoder() : Base64.getDecoder())
+                        .decode(decoded.replace(' ', '+'));
+                    JsonNode node = objectMapper.readTree(json).get(jsonKey);
+                    if (node != null) {
+                        values.addAll(textValues(node));
+                    }
+                } catch (Exception e) {
+                    // параметр є, але не у вивченому форматі
+                }
+            }
+            return values;
+        }
+
+        private static String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.repository.job.JobRepository;
+import com.scrapper.service.criteriaServices.DateParsingService;
+import com.scrapper.util.EpochDateParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Інкрементальний режим: зупиняє прокрутку, щойно стрічка доходить до вже збережених вакансій
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IncrementalCrawlService {
+
+    @Value("${scraping.incremental.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scraping.incremental.stop-after-known:20}")
+    private int stopAfterKnown;
+
+    private final JobRepository jobRepository;
+    private final DateParsingService dateParsingService;
+
+    /**
+     * Створює межу відомих вакансій для поточного скрапінгу або null, якщо режим вимкнено
+     */
+    public KnownJobFrontier openFrontier(List<String> jobFunctions) {
+        if (!enabled) {
+            return null;
+        }
+        long watermark = 0;
+        if (jobFunctions != null && !jobFunctions.isEmpty()) {
+            watermark = jobRepository.findLatestPostedDate(jobFunctions.stream()
+                    .map(function -> function.toLowerCase(Locale.ROOT))
+                    .toList())
+                .orElse(0L);
+        }
+        log.info("🧱 Incremental crawl: stop after {} known jobs in a row, posted date watermark {}",
+            stopAfterKnown, watermark);
+        return new KnownJobFrontier(
+            urls -> urls.isEmpty() ? List.of()
+                : new HashSet<>(jobRepository.findExistingJobPageUrls(urls)),
+            this::toEpochSeconds, watermark, stopAfterKnown);
+    }
+
+    private long toEpochSeconds(String datePosted) {
+        long epochSeconds = dateParsingService.parseEpochSeconds(datePosted);
+        return epochSeconds != EpochDateParser.UNPARSED ? epochSeconds : 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.util.ScrapingSelectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Читає job function з детальної сторінки вакансії (звичайний HTTP + Jsoup, без браузера),
+ * коли на картці її немає. Використовується тільки в union режимі і вимкнено за замовчуванням,
+ * бо коштує один запит на вакансію.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobDetailFunctionLookup {
+
+    @Value("${scraping.union.detail-fallback:false}")
+    private boolean enabled;
+
+    private final OkHttpClient httpClient;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<String> fetchJobFunctions(String jobPageUrl) {
+        List<String> functions = new ArrayList<>();
+        Request request = new Request.Builder().url(jobPageUrl).get().build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            if (!response.isSuccessful() || response.body() == null) {
+                log.debug("⚠️ Detail page {} returned {}", jobPageUrl, response.code());
+                return functions;
+            }
+            Document document = Jsoup.parse(response.body().string(), jobPageUrl);
+            for (String selector : ScrapingSelectors.JOB_FUNCTION) {
+                for (Element element : document.select(selector)) {
+                    String value = element.hasAttr("content") ? element.attr("content") : element.text();
+                    if (!value.isBlank() && !functions.contains(value.trim())) {
+                        functions.add(value.trim());
+                    }
+                }
+                if (!functions.isEmpty()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.debug("⚠️ Could not read job function from {}: {}", jobPageUrl, e.getMessage());
+        }
+        return functions;
+    }
+}
@@ -0,0 +1,216 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.model.JobFunction;
+import com.scrapper.model.JobFunctionOption;
+import com.scrapper.repository.crawl.JobFunctionOptionRepository;
+import com.scrapper.validation.UnknownJobFunctionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Каталог опцій фільтра "Job function" на сайті: назва опції та її внутрішній ідентифікатор
+ * (data-testid). Коли каталог застарів (TTL), він збирається під час звичайного відкриття dropdown,
+ * а при відкритті за deep link - окремим відкриттям dropdown на відфільтрованій сторінці.
+ * Використовується, щоб нормалізувати або відхилити job functions із запиту ще до запуску
+ * браузера, а також щоб одразу знаходити опцію за ідентифікатором.
+ * Каталог зберігається в job_function_options і завантажується при першому зверненні, тому
+ * переживає перезапуск. Поки каталогу немає (жоден скрапінг ще не відкривав dropdown) або він
+ * застарів, приймаються тільки назви з JobFunction, функції, відомі лише сайту, відхиляються,
+ * а опція в dropdown шукається за текстом замість ідентифікатора.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobFunctionCatalogService {
+
+    @Value("${scraping.catalog.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    private final JobFunctionOptionRepository jobFunctionOptionRepository;
+
+    private volatile Catalog catalog;
+    private volatile boolean loaded;
+
+    /**
+     * Опція dropdown, як її бачить сайт
+     */
+    public record FilterOption(String label, String optionId) {
+    }
+
+    private record Catalog(Map<JobFunction, FilterOption> mapped,
+                           Map<String, FilterOption> unmapped, Instant refreshedAt) {
+    }
+
+    public boolean isFresh() {
+        Catalog current = catalog();
+        return current != null
+            && current.refreshedAt().plus(Duration.ofMinutes(ttlMinutes)).isAfter(Instant.now());
+    }
+
+    /**
+     * Оновлює каталог опціями, зібраними з відкритого dropdown
+     */
+    public void update(List<FilterOption> options) {
+        if (options == null || options.isEmpty()) {
+            return;
+        }
+        Instant refreshedAt = Instant.now();
+        catalog = build(options, refreshedAt);
+        loaded = true;
+        log.info("📚 Job function catalog refreshed: {} options mapped to JobFunction",
+            catalog.mapped().size());
+        if (!catalog.unmapped().isEmpty()) {
+            log.warn("⚠️ Board offers job functions unknown to JobFunction: {}",
+                catalog.unmapped().values().stream().map(FilterOption::label).toList());
+        }
+        save(options, refreshedAt);
+    }
+
+    /**
+     * Каталог у пам'яті; при першому зверненні - збережений у БД попереднім запуском
+     */
+    private Catalog catalog() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    catalog = load();
+                    loaded = true;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    private Catalog load() {
+        try {
+            List<JobFunctionOption> stored = jobFunctionOptionRepository.findAll();
+            if (stored.isEmpty()) {
+                log.info("📚 No stored job function catalog, it will be collected by the next crawl");
+                return null;
+            }
+            Instant refreshedAt = Instant.ofEpochSecond(stored.stream()
+                .mapToLong(JobFunctionOption::getRefreshedAt).min().orElse(0));
+            log.info("📚 Loaded stored job function catalog: {} options from {}", stored.size(),
+                refreshedAt);
+            return build(stored.stream()
+                .map(option -> new FilterOption(option.getLabel(), option.getOptionId()))
+                .toList(), refreshedAt);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not load stored job function catalog: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Замінює збережений каталог; помилка БД не заважає скрапінгу, каталог у пам'яті вже оновлено
+     */
+    private void save(List<FilterOption> options, Instant refreshedAt) {
+        Map<String, JobFunctionOption> rows = new LinkedHashMap<>();
+        for (FilterOption option : options) {
+            if (option.label() != null && !option.label().isBlank()) {
+                rows.putIfAbsent(option.label(), JobFunctionOption.builder()
+                    .label(option.label())
+                    .optionId(option.optionId())
+                    .refreshedAt(refreshedAt.getEpochSecond())
+                    .build());
+            }
+        }
+        try {
+            jobFunctionOptionRepository.deleteAllInBatch();
+            jobFunctionOptionRepository.saveAll(rows.values());
+        } catch (Exception e) {
+            log.warn("⚠️ Could not store job function catalog: {}", e.getMessage());
+        }
+    }
+
+    private Catalog build(List<FilterOption> options, Instant refreshedAt) {
+        Map<JobFunction, FilterOption> mapped = new EnumMap<>(JobFunction.class);
+        Map<String, FilterOption> unmapped = new LinkedHashMap<>();
+        for (FilterOption option : options) {
+            if (option.label() == null || option.label().isBlank()) {
+                continue;
+            }
+            Optional<JobFunction> function = JobFunction.fromLabel(option.label());
+            if (function.isPresent()) {
+                mapped.putIfAbsent(function.get(), option);
+            } else {
+                unmapped.putIfAbsent(option.label().toLowerCase(Locale.ROOT), option);
+            }
+        }
+        return new Catalog(mapped, unmapped, refreshedAt);
+    }
+
+    /**
+     * Внутрішній ідентифікатор опції на сайті для job function, якщо каталог його знає
+     */
+    public Optional<String> optionId(String jobFunction) {
+        Catalog current = catalog();
+        if (current == null || jobFunction == null) {
+            return Optional.empty();
+        }
+        FilterOption option = JobFunction.fromLabel(jobFunction)
+            .map(current.mapped()::get)
+            .orElseGet(() -> current.unmapped().get(jobFunction.toLowerCase(Locale.ROOT)));
+        return Optional.ofNullable(option).map(FilterOption::optionId);
+    }
+
+    /**
+     * Приводить job functions із запиту до назв опцій сайту та прибирає дублікати.
+     *
+     * @throws UnknownJobFunctionException якщо хоча б одну функцію не вдалося зіставити
+     */
+    public List<String> normalize(List<String> requested) {
+        Catalog current = isFresh() ? catalog() : null;
+        Set<String> normalized = new LinkedHashSet<>();
+        List<String> unknown = new ArrayList<>();
+
+        for (String value : requested) {
+            Optional<JobFunction> function = JobFunction.fromLabel(value);
+            if (function.isPresent()) {
+                FilterOption option = current != null ? current.mapped().get(function.get()) : null;
+                if (current != null && option == null) {
+                    log.warn("⚠️ '{}' is not in the board's job function catalog", value);
+                }
+                normalized.add(option != null ? option.label() : function.get().toString());
+                continue;
+            }
+            FilterOption boardOnly = current != null && value != null
+                ? current.unmapped().get(value.trim().toLowerCase(Locale.ROOT))
+                : null;
+            if (boardOnly != null) {
+                normalized.add(boardOnly.label());
+            } else {
+                unknown.add(value);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            throw new UnknownJobFunctionException(unknown, availableLabels(current));
+        }
+        return new ArrayList<>(normalized);
+    }
+
+    private List<String> availableLabels(Catalog current) {
+        List<String> labels = new ArrayList<>();
+        Arrays.stream(JobFunction.values()).map(JobFunction::toString).forEach(labels::add);
+        if (current != null) {
+            current.unmapped().values().forEach(option -> labels.add(option.label()));
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,119 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.model.Job;
+import com.scrapper.model.JobFunction;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Розкладає вакансії одного скрапінгу з кількома job functions (об'єднання фільтрів) по
+ * функціях локально: функція кожної вакансії береться з розмітки картки або детальної сторінки,
+ * тому N функцій коштують одну сесію прокрутки замість N.
+ */
+public class JobFunctionPartitioner {
+
+    /**
+     * laborFunction вакансії, функцію якої не вдалося визначити ні з картки, ні з детальної сторінки
+     */
+    public static final String UNRESOLVED = "Unresolved";
+
+    private final List<String> requested;
+
+    @Getter
+    private int resolvedFromCard;
+    @Getter
+    private int resolvedFromDetail;
+    @Getter
+    private int unresolved;
+
+    public JobFunctionPartitioner(List<String> requested) {
+        this.requested = List.copyOf(requested);
+    }
+
+    /**
+     * Чи потрібно визначати функцію для кожної картки окремо
+     */
+    public boolean isUnion() {
+        return requested.size() > 1;
+    }
+
+    /**
+     * Функція з картки, зіставлена з однією з запитаних; null, якщо зіставити не вдалося
+     */
+    public String resolveFromCard(List<String> cardFunctions) {
+        String resolved = match(cardFunctions);
+        if (resolved != null) {
+            resolvedFromCard++;
+        }
+        return resolved;
+    }
+
+    public String resolveFromDetail(List<String> detailFunctions) {
+        String resolved = match(detailFunctions);
+        if (resolved != null) {
+            resolvedFromDetail++;
+        }
+        return resolved;
+    }
+
+    /**
+     * Функція вакансій скрапінгу з однією функцією
+     */
+    public String primary() {
+        return requested.isEmpty() ? JobFunction.SOFTWARE_ENGINEERING.toString() : requested.get(0);
+    }
+
+    /**
+     * Вакансія union скрапінгу, яку не вдалося зіставити: зберігається як UNRESOLVED, а не
+     * приписується першій запитаній функції, і не входить у швидкість появи вакансій жодної функції
+     */
+    public String unresolved() {
+        unresolved++;
+        return UNRESOLVED;
+    }
+
+    /**
+     * Групує вакансії за laborFunction в порядку запитаних функцій; незіставлені - під ключем UNRESOLVED
+     */
+    public Map<String, List<Job>> partition(List<Job> jobs) {
+        Map<String, List<Job>> partitions = new LinkedHashMap<>();
+        requested.forEach(function -> partitions.put(function, new ArrayList<>()));
+        jobs.forEach(job -> partitions
+            .computeIfAbsent(job.getLaborFunction(), key -> new ArrayList<>())
+            .add(job));
+        return partitions;
+    }
+
+    public String summary(List<Job> jobs) {
+        String counts = partition(jobs).entrySet().stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue().size())
+            .collect(Collectors.joining(", "));
+        return String.format("%s | from card: %d, from detail page: %d, unresolved: %d",
+            counts, resolvedFromCard, resolvedFromDetail, unresolved);
+    }
+
+    private String match(List<String> candidates) {
+        if (candidates == null) {
+            return null;
+        }
+        for (String candidate : candidates) {
+            Optional<JobFunction> function = JobFunction.fromLabel(candidate);
+            for (String value : requested) {
+                boolean sameFunction = function.isPresent()
+                    && function.equals(JobFunction.fromLabel(value));
+                if (sameFunction || value.toLowerCase(Locale.ROOT)
+                    .equals(candidate.trim().toLowerCase(Locale.ROOT))) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.service.PageInteractionService.LoadedCard;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Межа вже відомих вакансій для інкрементального скрапінгу.
+ * Стрічка впорядкована від нових до старих, тому коли поспіль іде stopAfterKnown вже збережених
+ * карток - далі скролити немає сенсу. Для зупинки картка вважається відомою, якщо її job_page_url
+ * вже є в БД або її дата публікації старша за найновішу збережену вакансію цих функцій.
+ * Екстракція ж пропускається тільки для URL, які справді є в БД: вакансію, пропущену раніше або
+ * заднім числом додану дошкою, все одно буде збережено, якщо до неї дійшла прокрутка.
+ */
+@Slf4j
+public class KnownJobFrontier {
+
+    private static final long ONE_DAY_SECONDS = 24 * 60 * 60;
+
+    private final Function<Collection<String>, Collection<String>> knownUrlLookup;
+    private final ToLongFunction<String> postedDateParser;
+    private final long postedDateWatermark;
+    private final int stopAfterKnown;
+
+    private final Set<String> knownUrls = new HashSet<>();
+    @Getter
+    private int observedCount;
+    @Getter
+    private int consecutiveKnown;
+    @Getter
+    private int newCards;
+    @Getter
+    private int scrollIterations;
+    @Getter
+    private boolean reached;
+
+    KnownJobFrontier(Function<Collection<String>, Collection<String>> knownUrlLookup,
+                     ToLongFunction<String> postedDateParser, long postedDateWatermark,
+                     int stopAfterKnown) {
+        this.knownUrlLookup = knownUrlLookup;
+        this.postedDateParser = postedDateParser;
+        this.postedDateWatermark = postedDateWatermark;
+        this.stopAfterKnown = stopAfterKnown;
+    }
+
+    /**
+     * Обробляє щойно завантажені картки (в порядку DOM).
+     *
+     * @return true якщо досягнуто межі відомих вакансій і прокрутку можна зупинити
+     */
+    public boolean observe(List<LoadedCard> cards) {
+        scrollIterations++;
+        if (cards.isEmpty() || reached) {
+            return reached;
+        }
+
+        Collection<String> existing = knownUrlLookup.apply(cards.stream()
+            .map(LoadedCard::url)
+            .toList());
+        knownUrls.addAll(existing);
+
+        for (LoadedCard card : cards) {
+            observedCount = Math.max(observedCount, card.index() + 1);
+            if (existing.contains(card.url()) || isOlderThanWatermark(card)) {
+                consecutiveKnown++;
+            } else {
+                newCards++;
+                consecutiveKnown = 0;
+            }
+            // Решту пачки все одно класифікуємо, щоб відомі картки не пішли на екстракцію
+            if (!reached && consecutiveKnown >= stopAfterKnown) {
+                reached = true;
+                log.info("🧱 Known frontier reached after {} cards ({} new, {} known in a row)",
+                    observedCount, newCards, consecutiveKnown);
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Чи вже є ця вакансія в БД - такі картки не потрібно екстрагувати
+     */
+    public boolean isKnown(String url) {
+        return url != null && knownUrls.contains(url);
+    }
+
+    /**
+     * Оцінка кількості ітерацій прокрутки, які не довелося виконувати завдяки межі
+     */
+    public int estimateScrollsSaved(int declaredTotal) {
+        int remaining = declaredTotal - observedCount;
+        if (!reached || remaining <= 0 || scrollIterations == 0) {
+            return 0;
+        }
+        double cardsPerScroll = Math.max(1.0, (double) observedCount / scrollIterations);
+        return (int) Math.ceil(remaining / cardsPerScroll);
+    }
+
+    private boolean isOlderThanWatermark(LoadedCard card) {
+        if (postedDateWatermark <= 0 || card.datePosted() == null) {
+            return false;
+        }
+        long postedDate = postedDateParser.applyAsLong(card.datePosted());
+        // datePosted має точність до дня, тому залишаємо запас в один день
+        return postedDate > 0 && postedDate < postedDateWatermark - ONE_DAY_SECONDS;
+    }
+}
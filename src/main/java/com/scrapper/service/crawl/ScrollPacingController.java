@@ -0,0 +1,132 @@
+package com.scrapper.service.crawl;
+
+import lombok.Getter;
+
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+
+/**
+ * Адаптивний контролер пауз між скролами (AIMD).
+ * Після скролу кількість карток опитується кожні pollInterval мс, і очікування завершується,
+ * щойно з'явились нові картки. Поки стрічка встигає, таймаут зменшується на decreaseStep,
+ * а коли нових карток немає - множиться на backoffFactor, завжди в межах [minDelay, maxDelay].
+ * У фіксованому режимі поводиться як раніше: одна пауза scrollDelay після кожного скролу.
+ * В адаптивному режимі backoffFactor має бути більше 1, а minDelay - більше 0.
+ */
+public class ScrollPacingController {
+
+    private final boolean adaptive;
+    private final long baselineDelay;
+    private final long minDelay;
+    private final long maxDelay;
+    private final long pollInterval;
+    private final long decreaseStep;
+    private final double backoffFactor;
+
+    @Getter
+    private long currentDelay;
+    @Getter
+    private int iterations;
+    @Getter
+    private int arrivals;
+    @Getter
+    private int stalls;
+    @Getter
+    private long totalWaitMillis;
+    private long totalArrivalMillis;
+    private boolean lastStallConfirmed;
+
+    public ScrollPacingController(boolean adaptive, long baselineDelay, long minDelay,
+                                  long maxDelay, long pollInterval, long decreaseStep,
+                                  double backoffFactor) {
+        // Інакше пауза, що впала нижче базової, вже не виросте, і порожні скроли не підтвердяться
+        if (adaptive && backoffFactor <= 1.0) {
+            throw new IllegalArgumentException("Scroll backoff factor must be > 1, got " + backoffFactor);
+        }
+        if (adaptive && minDelay <= 0) {
+            throw new IllegalArgumentException("Scroll min delay must be > 0 ms, got " + minDelay);
+        }
+        this.adaptive = adaptive;
+        this.baselineDelay = baselineDelay;
+        this.minDelay = Math.min(minDelay, maxDelay);
+        this.maxDelay = maxDelay;
+        this.pollInterval = Math.max(50, pollInterval);
+        this.decreaseStep = decreaseStep;
+        this.backoffFactor = backoffFactor;
+        this.currentDelay = adaptive
+            ? Math.max(this.minDelay, Math.min(maxDelay, baselineDelay))
+            : baselineDelay;
+    }
+
+    /**
+     * Чекає появи нових карток після скролу.
+     *
+     * @param cardCounter поточна кількість карток у DOM
+     * @param baseline    кількість карток до скролу
+     * @param sleeper     реалізація паузи
+     * @return кількість карток після очікування
+     */
+    public int awaitNewCards(IntSupplier cardCounter, int baseline, LongConsumer sleeper) {
+        iterations++;
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + currentDelay;
+        int count;
+
+        if (!adaptive) {
+            sleeper.accept(currentDelay);
+            count = cardCounter.getAsInt();
+        } else {
+            do {
+                sleeper.accept(Math.max(1, Math.min(pollInterval,
+                    deadline - System.currentTimeMillis())));
+                count = cardCounter.getAsInt();
+            } while (count <= baseline && System.currentTimeMillis() < deadline);
+        }
+
+        long waited = System.currentTimeMillis() - startedAt;
+        totalWaitMillis += waited;
+        boolean arrived = count > baseline;
+        if (arrived) {
+            arrivals++;
+            totalArrivalMillis += waited;
+        } else {
+            stalls++;
+        }
+        // Порожній скрол вважається ознакою кінця стрічки тільки якщо чекали не менше базової паузи
+        lastStallConfirmed = !arrived && currentDelay >= Math.min(baselineDelay, maxDelay);
+
+        if (adaptive) {
+            currentDelay = arrived
+                ? Math.max(minDelay, currentDelay - decreaseStep)
+                : Math.min(maxDelay, (long) (currentDelay * backoffFactor));
+        }
+        return count;
+    }
+
+    /**
+     * Чи останній скрол без нових карток чекав достатньо довго, щоб рахувати його для зупинки
+     */
+    public boolean isConfirmedStall() {
+        return lastStallConfirmed;
+    }
+
+    /**
+     * Скільки часу пішло б на паузи з фіксованою затримкою для тієї ж кількості скролів
+     */
+    public long fixedDelayBaselineMillis() {
+        return iterations * baselineDelay;
+    }
+
+    public long averageArrivalMillis() {
+        return arrivals == 0 ? 0 : totalArrivalMillis / arrivals;
+    }
+
+    public String summary() {
+        long baseline = fixedDelayBaselineMillis();
+        long saved = baseline > 0 ? (baseline - totalWaitMillis) * 100 / baseline : 0;
+        return String.format("%d scrolls (%d with new cards, %d stalls), waited %d ms vs %d ms "
+                + "with fixed delay (%d%% saved), avg arrival %d ms, final delay %d ms",
+            iterations, arrivals, stalls, totalWaitMillis, baseline, saved,
+            averageArrivalMillis(), currentDelay);
+    }
+}
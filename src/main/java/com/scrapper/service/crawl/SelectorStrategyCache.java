@@ -0,0 +1,122 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.model.SelectorStats;
+import com.scrapper.repository.selector.SelectorStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Кеш стратегій селекторів, що самонавчається.
+ * Запам'ятовує, який селектор з групи ScrapingSelectors дав валідні елементи, його hit rate та
+ * вартість, і наступного разу пробує його першим. Селектори, що перестали працювати
+ * (demoteAfterMisses промахів поспіль), опускаються в кінець. Статистика зберігається в
+ * selector_stats, тому переживає перезапуск.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SelectorStrategyCache {
+
+    @Value("${scraping.selectors.demote-after-misses:3}")
+    private int demoteAfterMisses;
+
+    private final SelectorStatsRepository selectorStatsRepository;
+
+    private final Map<String, Map<String, SelectorStats>> statsByGroup = new ConcurrentHashMap<>();
+
+    /**
+     * Повертає селектори групи в порядку, в якому їх варто пробувати
+     */
+    public List<String> orderedSelectors(String group, String[] defaults) {
+        Map<String, SelectorStats> stats = stats(group);
+        List<String> ordered = new ArrayList<>(List.of(defaults));
+        Comparator<String> byDefaultOrder = Comparator.comparingInt(ordered::indexOf);
+        ordered.sort(Comparator
+            .comparing((String selector) -> isDemoted(stats.get(selector)))
+            .thenComparing(selector -> -lastSuccessAt(stats.get(selector)))
+            .thenComparing(selector -> -hitRate(stats.get(selector)))
+            .thenComparing(selector -> avgCost(stats.get(selector)))
+            .thenComparing(byDefaultOrder));
+        return ordered;
+    }
+
+    /**
+     * Селектор, який зараз вважається найкращим у групі
+     */
+    public String preferredSelector(String group, String[] defaults) {
+        return orderedSelectors(group, defaults).get(0);
+    }
+
+    public void recordHit(String group, String selector, long costMillis, int validCount) {
+        SelectorStats stats = statsFor(group, selector);
+        synchronized (stats) {
+            stats.setHits(stats.getHits() + 1);
+            stats.setConsecutiveMisses(0);
+            stats.setLastValidCount(validCount);
+            stats.setLastSuccessAt(Instant.now().getEpochSecond());
+            updateCost(stats, costMillis);
+            selectorStatsRepository.save(stats);
+        }
+    }
+
+    public void recordMiss(String group, String selector, long costMillis) {
+        SelectorStats stats = statsFor(group, selector);
+        synchronized (stats) {
+            stats.setMisses(stats.getMisses() + 1);
+            stats.setConsecutiveMisses(stats.getConsecutiveMisses() + 1);
+            updateCost(stats, costMillis);
+            if (stats.getConsecutiveMisses() == demoteAfterMisses && stats.getHits() > 0) {
+                log.warn("⚠️ Selector '{}' demoted after {} misses in a row", selector,
+                    demoteAfterMisses);
+            }
+            selectorStatsRepository.save(stats);
+        }
+    }
+
+    private Map<String, SelectorStats> stats(String group) {
+        return statsByGroup.computeIfAbsent(group, key -> {
+            Map<String, SelectorStats> loaded = new ConcurrentHashMap<>();
+            selectorStatsRepository.findBySelectorGroup(key)
+                .forEach(stats -> loaded.put(stats.getSelector(), stats));
+            return loaded;
+        });
+    }
+
+    private SelectorStats statsFor(String group, String selector) {
+        return stats(group).computeIfAbsent(selector, key -> SelectorStats.builder()
+            .selectorGroup(group)
+            .selector(key)
+            .build());
+    }
+
+    private void updateCost(SelectorStats stats, long costMillis) {
+        int attempts = stats.getHits() + stats.getMisses();
+        stats.setAvgCostMillis(stats.getAvgCostMillis()
+            + (costMillis - stats.getAvgCostMillis()) / Math.max(1, attempts));
+    }
+
+    private boolean isDemoted(SelectorStats stats) {
+        return stats != null && stats.getConsecutiveMisses() >= demoteAfterMisses;
+    }
+
+    private long lastSuccessAt(SelectorStats stats) {
+        return stats != null ? stats.getLastSuccessAt() : 0;
+    }
+
+    private double hitRate(SelectorStats stats) {
+        return stats != null ? stats.hitRate() : 0;
+    }
+
+    private double avgCost(SelectorStats stats) {
+        return stats != null ? stats.getAvgCostMillis() : 0;
+    }
+}
@@ -2,16 +2,19 @@ package com.scrapper.service.criteriaServices;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import java.time.LocalDateTime;
 import java.util.List;
 
 public interface DataExtractionService {
 
     List<String> extractTags(WebElement source);
     String extractLocation(WebElement source);
-    LocalDateTime extractPostedDate(WebElement source);
+    /**
+     * Сирий рядок meta itemprop="datePosted" (або null); розбирається один раз через parseEpochSeconds
+     */
+    String extractPostedDate(WebElement source);
     String extractLogoUrl(WebElement source);
     String extractCompanyName(WebElement source);
     String extractTitle(WebElement source);
     String extractDescription(WebElement source);
+    List<String> extractJobFunctions(WebElement source);
 }
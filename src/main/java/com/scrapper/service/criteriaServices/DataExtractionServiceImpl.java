@@ -8,7 +8,6 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,8 +19,6 @@ import java.util.List;
 @Slf4j
 public class DataExtractionServiceImpl implements DataExtractionService {
 
-    private final DateParsingService dateParsingService;
-
     @Override
     public List<String> extractTags(WebElement source) {
         List<String> tags = new ArrayList<>();
@@ -67,14 +64,14 @@ public class DataExtractionServiceImpl implements DataExtractionService {
     }
 
     @Override
-    public LocalDateTime extractPostedDate(WebElement source) {
+    public String extractPostedDate(WebElement source) {
         try {
             List<WebElement> metaElements = source.findElements(By.cssSelector("meta[itemprop"
                 + "='datePosted']"));
             if (!metaElements.isEmpty()) {
                 String dateStr = metaElements.get(0).getAttribute("content");
                 if (dateStr != null && !dateStr.trim().isEmpty()) {
-                    return dateParsingService.parseMetaDate(dateStr);
+                    return dateStr.trim();
                 }
             }
         } catch (Exception e) {
@@ -214,4 +211,29 @@ public class DataExtractionServiceImpl implements DataExtractionService {
         }
         return null;
     }
+
+    @Override
+    public List<String> extractJobFunctions(WebElement source) {
+        List<String> functions = new ArrayList<>();
+        try {
+            for (String selector : ScrapingSelectors.JOB_FUNCTION) {
+                for (WebElement element : source.findElements(By.cssSelector(selector))) {
+                    String content = element.getAttribute("content");
+                    String value = content != null && !content.trim().isEmpty()
+                        ? content
+                        : element.getText();
+                    if (value != null && !value.trim().isEmpty()
+                        && !functions.contains(value.trim())) {
+                        functions.add(value.trim());
+                    }
+                }
+                if (!functions.isEmpty()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.debug("⚠️ Error extracting job functions: {}", e.getMessage());
+        }
+        return functions;
+    }
 }
@@ -10,4 +10,11 @@ public interface DateParsingService {
      * @return LocalDateTime або null якщо не вдалося розпарсити
      */
     LocalDateTime parseMetaDate(String dateStr);
+
+    /**
+     * Парсить дату одразу в Unix секунди (UTC): ISO дата, дата-час зі зсувом або відносна дата
+     * @param dateStr рядок дати (наприклад, "2025-08-10", "2025-08-10T14:30:00+02:00", "3 days ago")
+     * @return Unix секунди або EpochDateParser.UNPARSED якщо не вдалося розпарсити
+     */
+    long parseEpochSeconds(String dateStr);
 }
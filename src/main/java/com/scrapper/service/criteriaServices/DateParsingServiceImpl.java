@@ -1,8 +1,10 @@
 package com.scrapper.service.criteriaServices;
 
+import com.scrapper.util.EpochDateParser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 @Service
 @Slf4j
@@ -10,27 +12,23 @@ public class DateParsingServiceImpl implements DateParsingService {
     
     @Override
     public LocalDateTime parseMetaDate(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return null;
+        long epochSeconds = parseEpochSeconds(dateStr);
+        return epochSeconds != EpochDateParser.UNPARSED
+            ? LocalDateTime.ofEpochSecond(epochSeconds, 0, ZoneOffset.UTC)
+            : null;
+    }
+
+    @Override
+    public long parseEpochSeconds(String dateStr) {
+        if (dateStr == null || dateStr.isBlank()) {
+            return EpochDateParser.UNPARSED;
         }
-        
-        String cleanDate = dateStr.trim();
-        log.debug("🔍 Parsing meta date: '{}'", cleanDate);
-        
-        try {
-            // ✅ Парсимо дату формату YYYY-MM-DD з meta тегу
-            if (cleanDate.matches("\\d{4}-\\d{2}-\\d{2}")) {
-                LocalDateTime date = LocalDateTime.parse(cleanDate.trim() + "T00:00:00");
-                log.debug("✅ Parsed meta date: '{}' -> {} (Unix: {})", 
-                        cleanDate, date, date.toEpochSecond(java.time.ZoneOffset.UTC));
-                return date;
-            } else {
-                log.warn("⚠️ Meta date format not supported: '{}', expected YYYY-MM-DD", cleanDate);
-                return null;
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ Could not parse meta date: '{}', error: {}", cleanDate, e.getMessage());
-            return null;
+        // ✅ ISO дата/дата-час зі зсувом або відносна дата ("3 days ago") одразу в Unix секунди
+        long epochSeconds = EpochDateParser.parse(dateStr);
+        if (epochSeconds == EpochDateParser.UNPARSED) {
+            log.warn("⚠️ Date format not supported: '{}', expected ISO date/date-time or relative date",
+                dateStr.trim());
         }
+        return epochSeconds;
     }
 }
@@ -0,0 +1,36 @@
+package com.scrapper.service.extraction;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Значення полів однієї картки, витягнуті за планом екстракції (назва поля -> значення).
+ * Однакове для всіх бекендів: браузерний скрипт, Jsoup та WebDriver.
+ */
+public record CardData(Map<String, List<String>> values) {
+
+    public static final String TITLE = "title";
+    public static final String COMPANY = "company";
+    public static final String LOCATION = "location";
+    public static final String POSTED_DATE = "postedDate";
+    public static final String LOGO_URL = "logoUrl";
+    public static final String DESCRIPTION = "description";
+    public static final String TAGS = "tags";
+    public static final String JOB_FUNCTIONS = "jobFunctions";
+
+    public CardData {
+        values = Map.copyOf(values);
+    }
+
+    /**
+     * Перше значення поля або null
+     */
+    public String first(String field) {
+        List<String> fieldValues = values.get(field);
+        return fieldValues == null || fieldValues.isEmpty() ? null : fieldValues.get(0);
+    }
+
+    public List<String> all(String field) {
+        return values.getOrDefault(field, List.of());
+    }
+}
@@ -0,0 +1,152 @@
+package com.scrapper.service.extraction;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LRU кеш результатів екстракції карток, ключ - хеш розмітки картки.
+ * Між скрапінгами більшість карток рендериться однаково, тому для картки з тим самим хешем
+ * поля беруться з кешу без екстракції. Хеш рахується в браузері одним викликом на пакет,
+ * тож outerHTML не передається через WebDriver. За потреби кеш зберігається у файл.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CardParseCache {
+
+    /**
+     * 64-бітний хеш outerHTML кожної картки (без службових атрибутів data-scrape-*) та довжина
+     */
+    private static final String HASH_SCRIPT =
+        "const hash = text => {"
+            + "  let h1 = 0xdeadbeef, h2 = 0x41c6ce57;"
+            + "  for (let i = 0; i < text.length; i++) {"
+            + "    const ch = text.charCodeAt(i);"
+            + "    h1 = Math.imul(h1 ^ ch, 2654435761);"
+            + "    h2 = Math.imul(h2 ^ ch, 1597334677);"
+            + "  }"
+            + "  h1 = Math.imul(h1 ^ (h1 >>> 16), 2246822507) ^ Math.imul(h2 ^ (h2 >>> 13), 3266489909);"
+            + "  h2 = Math.imul(h2 ^ (h2 >>> 16), 2246822507) ^ Math.imul(h1 ^ (h1 >>> 13), 3266489909);"
+            + "  return (h2 >>> 0).toString(16).padStart(8, '0') + (h1 >>> 0).toString(16).padStart(8, '0');"
+            + "};"
+            + "return arguments[0].map(card => {"
+            + "  const html = card.outerHTML.replace(/ data-scrape-[a-z-]+=\"[^\"]*\"/g, '');"
+            + "  return hash(html) + ':' + html.length;"
+            + "});";
+
+    @Value("${scraping.parse-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scraping.parse-cache.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${scraping.parse-cache.file:}")
+    private String persistFile;
+
+    private final ObjectMapper objectMapper;
+
+    private Map<String, Entry> entries;
+
+    /**
+     * Закешовані поля картки та скільки коштувала їх екстракція
+     */
+    public record Entry(Map<String, List<String>> values, long extractionNanos) {
+    }
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        if (enabled && !persistFile.isBlank() && Files.exists(Path.of(persistFile))) {
+            try {
+                Map<String, Entry> loaded = objectMapper.readValue(Path.of(persistFile).toFile(),
+                    new TypeReference<LinkedHashMap<String, Entry>>() {
+                    });
+                synchronized (this) {
+                    entries.putAll(loaded);
+                }
+                log.info("🧠 Parse cache loaded {} entries from {}", entries.size(), persistFile);
+            } catch (Exception e) {
+                log.warn("⚠️ Could not load parse cache from {}: {}", persistFile, e.getMessage());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Хеші розмітки для пакета карток одним викликом JS
+     */
+    public List<String> hashCards(WebDriver driver, List<WebElement> cards) {
+        Object result = ((JavascriptExecutor) driver).executeScript(HASH_SCRIPT, cards);
+        List<String> hashes = new ArrayList<>(cards.size());
+        if (result instanceof List<?> values) {
+            values.forEach(value -> hashes.add(String.valueOf(value)));
+        }
+        if (hashes.size() != cards.size()) {
+            throw new IllegalStateException("Expected " + cards.size() + " hashes, got " + hashes.size());
+        }
+        return hashes;
+    }
+
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, CardData data, long extractionNanos) {
+        entries.put(key, new Entry(data.values(), extractionNanos));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Зберігає кеш у файл (якщо збереження налаштоване)
+     */
+    @PreDestroy
+    public void flush() {
+        if (!enabled || persistFile.isBlank()) {
+            return;
+        }
+        try {
+            Map<String, Entry> snapshot;
+            synchronized (this) {
+                snapshot = new LinkedHashMap<>(entries);
+            }
+            Path target = Path.of(persistFile);
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("🧠 Parse cache saved: {} entries to {}", snapshot.size(), persistFile);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not save parse cache to {}: {}", persistFile, e.getMessage());
+        }
+    }
+}
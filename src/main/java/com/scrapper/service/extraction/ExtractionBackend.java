@@ -0,0 +1,30 @@
+package com.scrapper.service.extraction;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Чим виконується екстракція полів карток
+ */
+public enum ExtractionBackend {
+    // Жорстко закодовані методи DataExtractionService (по кілька запитів WebDriver на поле)
+    LEGACY,
+    // План екстракції через WebElement.findElements
+    WEBDRIVER,
+    // План над Jsoup: outerHTML пакета карток забирається одним викликом
+    JSOUP,
+    // План одним скриптом у браузері для всього пакета карток
+    BROWSER;
+
+    public static ExtractionBackend from(String value) {
+        if (value == null || value.isBlank()) {
+            return LEGACY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown scraping.extraction.backend '" + value
+                + "', expected one of " + Arrays.toString(values()), e);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.scrapper.service.extraction;
+
+import com.scrapper.util.ScrapingSelectors;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.QueryParser;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Скомпільований план екстракції: специфікація розгорнута (групи ScrapingSelectors, джерела,
+ * постпроцесори) і перевірена один раз. Один і той самий план виконується трьома бекендами:
+ * одним скриптом у браузері для пакета карток, над Jsoup або через WebDriver.
+ */
+public final class ExtractionPlan {
+
+    // Псевдокласи Jsoup, яких немає в CSS браузера
+    private static final Pattern JSOUP_ONLY = Pattern.compile(":(contains|containsOwn|matches|matchesOwn|containsData)\\(");
+
+    /**
+     * Виконує план для всіх карток пакета за один виклик. Семантика збігається з Java бекендами.
+     */
+    private static final String BROWSER_SCRIPT =
+        "const [cards, fields] = arguments;"
+            + "const base = document.baseURI;"
+            + "const post = (value, ops) => {"
+            + "  for (const [op, arg, limit] of ops) {"
+            + "    if (value === null) { return null; }"
+            + "    if (op === 'COLLAPSE_WHITESPACE') { value = value.replace(/\\s+/g, ' '); }"
+            + "    else if (op === 'LOWERCASE') { value = value.toLowerCase(); }"
+            + "    else if (op === 'MIN_LENGTH') { value = value.length >= limit ? value : null; }"
+            + "    else if (op === 'MAX_LENGTH') { value = value.length <= limit ? value : null; }"
+            + "    else if (op === 'NOT_CONTAINS') { value = value.includes(arg) ? null : value; }"
+            + "    else if (op === 'ABSOLUTE_URL') {"
+            + "      try { value = new URL(value, base).href; } catch (e) { }"
+            + "    }"
+            + "  }"
+            + "  return value;"
+            + "};"
+            + "const read = (element, source) => source === null"
+            + "  ? (element.innerText || element.textContent || '')"
+            + "  : element.getAttribute(source);"
+            + "return cards.map(card => {"
+            + "  const out = {};"
+            + "  for (const [name, multiple, rules] of fields) {"
+            + "    const values = [];"
+            + "    for (const [selector, sources, ops] of rules) {"
+            + "      let matches;"
+            + "      try { matches = card.querySelectorAll(selector); } catch (e) { continue; }"
+            + "      for (const element of matches) {"
+            + "        let value = null;"
+            + "        for (const source of sources) {"
+            + "          const raw = read(element, source);"
+            + "          if (raw !== null && raw.trim() !== '') { value = raw.trim(); break; }"
+            + "        }"
+            + "        if (value === null) { continue; }"
+            + "        value = post(value, ops);"
+            + "        if (value === null || value === '') { continue; }"
+            + "        if (!values.includes(value)) { values.push(value); }"
+            + "        if (!multiple) { break; }"
+            + "      }"
+            + "      if (values.length > 0) { break; }"
+            + "    }"
+            + "    out[name] = values;"
+            + "  }"
+            + "  return out;"
+            + "});";
+
+    private final List<Field> fields;
+    private final List<Object> scriptArgument;
+    private final String fingerprint;
+
+    private ExtractionPlan(List<Field> fields) {
+        this.fields = List.copyOf(fields);
+        this.scriptArgument = fields.stream().map(Field::toScriptArgument).toList();
+        this.fingerprint = Integer.toHexString(this.fields.toString().hashCode());
+    }
+
+    /**
+     * Компілює специфікацію. Помилки (невідома група, некоректний селектор чи постпроцесор)
+     * повідомляються одразу, а не під час скрапінгу.
+     */
+    public static ExtractionPlan compile(ExtractionSpec spec) {
+        List<Field> fields = new ArrayList<>();
+        for (ExtractionSpec.FieldSpec fieldSpec : spec.getFields()) {
+            if (fieldSpec.getName() == null || fieldSpec.getName().isBlank()) {
+                throw new IllegalArgumentException("Extraction field without name");
+            }
+            List<PostProcessor> fieldPost = fieldSpec.getPost().stream()
+                .map(PostProcessor::parse)
+                .toList();
+            List<Rule> rules = new ArrayList<>();
+            for (ExtractionSpec.RuleSpec ruleSpec : fieldSpec.getRules()) {
+                List<String> sources = parseSources(ruleSpec.getValue());
+                List<PostProcessor> post = new ArrayList<>();
+                ruleSpec.getPost().forEach(definition -> post.add(PostProcessor.parse(definition)));
+                post.addAll(fieldPost);
+                for (String selector : expandSelector(ruleSpec.getSelector())) {
+                    QueryParser.parse(selector);
+                    boolean browserSafe = !JSOUP_ONLY.matcher(selector).find();
+                    rules.add(new Rule(selector, sources, List.copyOf(post), browserSafe));
+                }
+            }
+            fields.add(new Field(fieldSpec.getName(), fieldSpec.isMultiple(), List.copyOf(rules)));
+        }
+        return new ExtractionPlan(fields);
+    }
+
+    /**
+     * Jsoup бекенд (збережена або завантажена HTTP розмітка)
+     */
+    public CardData extract(Element card) {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        String baseUri = card.baseUri();
+        for (Field field : fields) {
+            List<String> fieldValues = new ArrayList<>();
+            for (Rule rule : field.rules()) {
+                for (Element element : card.select(rule.selector())) {
+                    String value = null;
+                    for (String source : rule.sources()) {
+                        String raw = source == null ? element.text() : element.attr(source);
+                        if (!raw.isBlank()) {
+                            value = raw.trim();
+                            break;
+                        }
+                    }
+                    if (addValue(fieldValues, value, rule, baseUri) && !field.multiple()) {
+                        break;
+                    }
+                }
+                if (!fieldValues.isEmpty()) {
+                    break;
+                }
+            }
+            values.put(field.name(), fieldValues);
+        }
+        return new CardData(values);
+    }
+
+    /**
+     * WebDriver бекенд (по запиту на кожне правило - найповільніший, для сумісності)
+     */
+    public CardData extract(WebElement card, String baseUri) {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        for (Field field : fields) {
+            List<String> fieldValues = new ArrayList<>();
+            for (Rule rule : field.rules()) {
+                if (!rule.browserSafe()) {
+                    continue;
+                }
+                try {
+                    for (WebElement element : card.findElements(By.cssSelector(rule.selector()))) {
+                        String value = null;
+                        for (String source : rule.sources()) {
+                            String raw = source == null ? element.getText() : element.getAttribute(source);
+                            if (raw != null && !raw.isBlank()) {
+                                value = raw.trim();
+                                break;
+                            }
+                        }
+                        if (addValue(fieldValues, value, rule, baseUri) && !field.multiple()) {
+                            break;
+                        }
+                    }
+                } catch (Exception e) {
+                    // правило не спрацювало - пробуємо наступне
+                }
+                if (!fieldValues.isEmpty()) {
+                    break;
+                }
+            }
+            values.put(field.name(), fieldValues);
+        }
+        return new CardData(values);
+    }
+
+    /**
+     * Браузерний бекенд: всі картки пакета одним викликом executeScript
+     */
+    public List<CardData> extractInBrowser(WebDriver driver, List<WebElement> cards) {
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+        Object result = ((JavascriptExecutor) driver).executeScript(BROWSER_SCRIPT, cards,
+            scriptArgument);
+        List<CardData> data = new ArrayList<>(cards.size());
+        if (result instanceof List<?> rows) {
+            for (Object row : rows) {
+                Map<String, List<String>> values = new LinkedHashMap<>();
+                if (row instanceof Map<?, ?> map) {
+                    map.forEach((name, fieldValues) -> {
+                        List<String> strings = new ArrayList<>();
+                        if (fieldValues instanceof List<?> list) {
+                            list.forEach(value -> strings.add(String.valueOf(value)));
+                        }
+                        values.put(String.valueOf(name), strings);
+                    });
+                }
+                data.add(new CardData(values));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Відбиток плану: змінюється разом зі специфікацією (для ключів кешу результатів)
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public List<String> fieldNames() {
+        return fields.stream().map(Field::name).toList();
+    }
+
+    public int ruleCount() {
+        return fields.stream().mapToInt(field -> field.rules().size()).sum();
+    }
+
+    private static boolean addValue(List<String> values, String value, Rule rule, String baseUri) {
+        if (value == null) {
+            return false;
+        }
+        String processed = PostProcessor.applyAll(rule.post(), value, baseUri);
+        if (processed == null || processed.isEmpty()) {
+            return false;
+        }
+        if (!values.contains(processed)) {
+            values.add(processed);
+        }
+        return true;
+    }
+
+    /**
+     * "text" -> null (текст елемента), "attr:content" -> "content"; кілька джерел через "|"
+     */
+    private static List<String> parseSources(String value) {
+        List<String> sources = new ArrayList<>();
+        for (String source : (value == null ? "text" : value).split("\\|")) {
+            String trimmed = source.trim();
+            if (trimmed.equals("text")) {
+                sources.add(null);
+            } else if (trimmed.startsWith("attr:") && trimmed.length() > 5) {
+                sources.add(trimmed.substring(5));
+            } else {
+                throw new IllegalArgumentException("Unknown value source '" + source + "'");
+            }
+        }
+        return sources;
+    }
+
+    private static List<String> expandSelector(String selector) {
+        if (selector == null || selector.isBlank()) {
+            throw new IllegalArgumentException("Extraction rule without selector");
+        }
+        if (!selector.startsWith("@")) {
+            return List.of(selector);
+        }
+        try {
+            Object group = ScrapingSelectors.class.getField(selector.substring(1)).get(null);
+            if (group instanceof String[] selectors) {
+                return Arrays.stream(selectors).filter(s -> !s.isBlank()).toList();
+            }
+        } catch (ReflectiveOperationException e) {
+            // обробляється нижче
+        }
+        throw new IllegalArgumentException("Unknown selector group '" + selector + "'");
+    }
+
+    private record Rule(String selector, List<String> sources, List<PostProcessor> post,
+                        boolean browserSafe) {
+
+        private List<Object> toScriptArgument() {
+            List<Object> ops = post.stream()
+                .map(processor -> (Object) Arrays.asList(processor.kind().name(),
+                    processor.argument(), processor.limit()))
+                .toList();
+            return Arrays.asList(selector, sources, ops);
+        }
+    }
+
+    private record Field(String name, boolean multiple, List<Rule> rules) {
+
+        private Object toScriptArgument() {
+            List<Object> scriptRules = rules.stream()
+                .filter(Rule::browserSafe)
+                .map(Rule::toScriptArgument)
+                .map(rule -> (Object) rule)
+                .toList();
+            return Arrays.asList(name, multiple, scriptRules);
+        }
+    }
+}
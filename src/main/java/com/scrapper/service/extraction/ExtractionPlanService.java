@@ -0,0 +1,69 @@
+package com.scrapper.service.extraction;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+
+/**
+ * Завантажує специфікацію екстракції з конфігурації та тримає скомпільований план.
+ * Якщо специфікація лежить у файлі і змінилась, план перекомпілюється на початку наступного
+ * скрапінгу - селектори можна виправити без redeploy. Некоректна специфікація не замінює
+ * робочий план.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExtractionPlanService {
+
+    @Value("${scraping.extraction.spec-location:classpath:extraction/job-card-spec.json}")
+    private Resource specLocation;
+
+    private final ObjectMapper objectMapper;
+
+    private volatile ExtractionPlan plan;
+    private volatile long loadedVersion = Long.MIN_VALUE;
+
+    /**
+     * Актуальний план (перекомпільований, якщо файл специфікації змінився)
+     */
+    public ExtractionPlan currentPlan() {
+        long version = specVersion();
+        if (plan == null || version != loadedVersion) {
+            reload(version);
+        }
+        if (plan == null) {
+            throw new IllegalStateException("No valid extraction spec at " + specLocation);
+        }
+        return plan;
+    }
+
+    private synchronized void reload(long version) {
+        if (plan != null && version == loadedVersion) {
+            return;
+        }
+        try (InputStream input = specLocation.getInputStream()) {
+            ExtractionSpec spec = objectMapper.readValue(input, ExtractionSpec.class);
+            ExtractionPlan compiled = ExtractionPlan.compile(spec);
+            plan = compiled;
+            log.info("🧾 Extraction plan compiled from {}: fields {}, {} rules", specLocation,
+                compiled.fieldNames(), compiled.ruleCount());
+        } catch (Exception e) {
+            log.error("❌ Invalid extraction spec {}: {}{}", specLocation, e.getMessage(),
+                plan != null ? " - keeping previous plan" : "");
+        }
+        loadedVersion = version;
+    }
+
+    private long specVersion() {
+        try {
+            return specLocation.isFile() ? specLocation.lastModified() : 0;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.scrapper.service.extraction;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Декларативна специфікація екстракції полів картки (JSON з конфігурації).
+ * Для кожного поля - впорядкований список правил: селектор (або "@ГРУПА" з ScrapingSelectors),
+ * джерело значення ("text", "attr:content", кілька через "|") та постпроцесори.
+ */
+@Data
+@NoArgsConstructor
+public class ExtractionSpec {
+
+    private int version = 1;
+    private List<FieldSpec> fields = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    public static class FieldSpec {
+        private String name;
+        // true - всі значення першого правила, що дало результат (теги), false - перше значення
+        private boolean multiple;
+        private List<RuleSpec> rules = new ArrayList<>();
+        // Постпроцесори, що застосовуються після постпроцесорів кожного правила
+        private List<String> post = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class RuleSpec {
+        private String selector;
+        private String value = "text";
+        private List<String> post = new ArrayList<>();
+    }
+}
@@ -0,0 +1,85 @@
+package com.scrapper.service.extraction;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Постпроцесор значення поля. Повертає перетворене значення або null, якщо значення
+ * відкидається. Така сама семантика реалізована в браузерному скрипті ExtractionPlan.
+ */
+public record PostProcessor(Kind kind, String argument, int limit) {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public enum Kind {
+        COLLAPSE_WHITESPACE("collapseWhitespace"),
+        LOWERCASE("lowercase"),
+        MIN_LENGTH("minLength"),
+        MAX_LENGTH("maxLength"),
+        NOT_CONTAINS("notContains"),
+        ABSOLUTE_URL("absoluteUrl");
+
+        private final String specName;
+
+        Kind(String specName) {
+            this.specName = specName;
+        }
+
+        public String specName() {
+            return specName;
+        }
+    }
+
+    /**
+     * Розбирає запис зі специфікації: "maxLength:499", "notContains: at ", "absoluteUrl"
+     */
+    public static PostProcessor parse(String definition) {
+        int separator = definition.indexOf(':');
+        String name = separator >= 0 ? definition.substring(0, separator) : definition;
+        String argument = separator >= 0 ? definition.substring(separator + 1) : null;
+        for (Kind kind : Kind.values()) {
+            if (kind.specName.equalsIgnoreCase(name.trim())) {
+                int limit = kind == Kind.MIN_LENGTH || kind == Kind.MAX_LENGTH
+                    ? Integer.parseInt(String.valueOf(argument).trim())
+                    : 0;
+                if (kind == Kind.NOT_CONTAINS && (argument == null || argument.isEmpty())) {
+                    throw new IllegalArgumentException("notContains requires an argument");
+                }
+                return new PostProcessor(kind, argument, limit);
+            }
+        }
+        throw new IllegalArgumentException("Unknown post-processor '" + definition + "'");
+    }
+
+    public String apply(String value, String baseUri) {
+        return switch (kind) {
+            case COLLAPSE_WHITESPACE -> WHITESPACE.matcher(value).replaceAll(" ");
+            case LOWERCASE -> value.toLowerCase(Locale.ROOT);
+            case MIN_LENGTH -> value.length() >= limit ? value : null;
+            case MAX_LENGTH -> value.length() <= limit ? value : null;
+            case NOT_CONTAINS -> value.contains(argument) ? null : value;
+            case ABSOLUTE_URL -> absolute(value, baseUri);
+        };
+    }
+
+    public static String applyAll(List<PostProcessor> processors, String value, String baseUri) {
+        String result = value;
+        for (PostProcessor processor : processors) {
+            if (result == null) {
+                return null;
+            }
+            result = processor.apply(result, baseUri);
+        }
+        return result;
+    }
+
+    private static String absolute(String value, String baseUri) {
+        try {
+            return baseUri == null ? value : URI.create(baseUri).resolve(value).toString();
+        } catch (Exception e) {
+            return value;
+        }
+    }
+}
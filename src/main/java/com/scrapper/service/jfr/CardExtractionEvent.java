@@ -0,0 +1,28 @@
+package com.scrapper.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Екстракція полів пакета карток одним бекендом
+ */
+@Name("com.scrapper.CardExtraction")
+@Label("Card Extraction")
+@Category({"Scraper", "Crawl"})
+@Description("Field extraction for a batch of job cards")
+@StackTrace(false)
+public class CardExtractionEvent extends Event {
+
+    @Label("Backend")
+    public String backend;
+
+    @Label("Job Functions")
+    public String jobFunctions;
+
+    @Label("Cards")
+    public int cards;
+}
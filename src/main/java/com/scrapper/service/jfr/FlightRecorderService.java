@@ -0,0 +1,98 @@
+package com.scrapper.service.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Запуск та зупинка запису JDK Flight Recorder з подіями скрапера (WebDriver команди, ітерації
+ * прокрутки, екстракція карток, збереження пакетів). Одночасно ведеться не більше одного запису.
+ * Файл .jfr відкривається в JDK Mission Control.
+ */
+@Service
+@Slf4j
+public class FlightRecorderService {
+
+    private static final List<Class<? extends jdk.jfr.Event>> SCRAPER_EVENTS = List.of(
+        WebDriverCommandEvent.class, ScrollIterationEvent.class, CardExtractionEvent.class,
+        IngestBatchEvent.class);
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Value("${scraping.jfr.directory:logs/jfr}")
+    private String directory;
+
+    @Value("${scraping.jfr.settings:default}")
+    private String settings;
+
+    @Value("${scraping.jfr.max-age-minutes:60}")
+    private long maxAgeMinutes;
+
+    private Recording recording;
+    private Path destination;
+
+    /**
+     * Починає запис; settings - "default" (мінімальні накладні витрати) або "profile"
+     */
+    public synchronized Map<String, Object> start(String requestedSettings) throws Exception {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("Recording '" + recording.getName() + "' is already running");
+        }
+        String configuration = requestedSettings != null && !requestedSettings.isBlank()
+            ? requestedSettings : settings;
+        Files.createDirectories(Path.of(directory));
+        String name = "crawl-" + LocalDateTime.now().format(FILE_TIMESTAMP);
+        destination = Path.of(directory, name + ".jfr").toAbsolutePath();
+
+        recording = new Recording(Configuration.getConfiguration(configuration));
+        recording.setName(name);
+        recording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        SCRAPER_EVENTS.forEach(event -> recording.enable(event).withThreshold(Duration.ZERO));
+        recording.start();
+        log.info("🎥 Flight recording '{}' started ({} settings) -> {}", name, configuration, destination);
+        return status();
+    }
+
+    /**
+     * Зупиняє запис і записує файл
+     */
+    public synchronized Map<String, Object> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        recording.stop();
+        Map<String, Object> status = status();
+        recording.close();
+        recording = null;
+        log.info("🎥 Flight recording saved to {}", destination);
+        return status;
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("name", recording.getName());
+        status.put("state", recording.getState().name());
+        status.put("startedAt", recording.getStartTime() != null ? recording.getStartTime().toString() : null);
+        status.put("file", destination.toString());
+        status.put("events", SCRAPER_EVENTS.stream().map(Class::getSimpleName).toList());
+        return status;
+    }
+}
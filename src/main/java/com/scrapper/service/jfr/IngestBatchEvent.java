@@ -0,0 +1,28 @@
+package com.scrapper.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Збереження пакета вакансій у БД
+ */
+@Name("com.scrapper.IngestBatch")
+@Label("Ingest Batch")
+@Category({"Scraper", "Database"})
+@Description("One saveJobs call with the number of jobs received and saved")
+@StackTrace(false)
+public class IngestBatchEvent extends Event {
+
+    @Label("Jobs")
+    public int jobs;
+
+    @Label("Saved")
+    public int saved;
+
+    @Label("Failed")
+    public int failed;
+}
@@ -0,0 +1,31 @@
+package com.scrapper.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Одна ітерація прокрутки стрічки: скрол та очікування нових карток
+ */
+@Name("com.scrapper.ScrollIteration")
+@Label("Scroll Iteration")
+@Category({"Scraper", "Crawl"})
+@Description("One scroll of the job feed including the wait for new cards")
+@StackTrace(false)
+public class ScrollIterationEvent extends Event {
+
+    @Label("Iteration")
+    public int iteration;
+
+    @Label("Cards Before")
+    public int cardsBefore;
+
+    @Label("Cards After")
+    public int cardsAfter;
+
+    @Label("Expected Total")
+    public int expectedTotal;
+}
@@ -0,0 +1,37 @@
+package com.scrapper.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Одна команда WebDriver (запит до chromedriver)
+ */
+@Name("com.scrapper.WebDriverCommand")
+@Label("WebDriver Command")
+@Category({"Scraper", "WebDriver"})
+@Description("WebDriver call issued by the scraper with its selector and result size")
+@StackTrace(false)
+public class WebDriverCommandEvent extends Event {
+
+    @Label("Command")
+    public String command;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Selector")
+    public String selector;
+
+    @Label("Caller")
+    public String caller;
+
+    @Label("Result Size")
+    public int resultSize;
+
+    @Label("Failed")
+    public boolean failed;
+}
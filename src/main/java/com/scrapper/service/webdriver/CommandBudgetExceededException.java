@@ -0,0 +1,21 @@
+package com.scrapper.service.webdriver;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Скрапінг використав більше команд WebDriver, ніж дозволяє scraping.webdriver.command-budget
+ */
+public class CommandBudgetExceededException extends WebDriverException {
+
+    private final long budget;
+
+    public CommandBudgetExceededException(long budget, String command, String site) {
+        super("WebDriver command budget of " + budget + " exceeded by " + command
+            + (site != null ? " at " + site : ""));
+        this.budget = budget;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+}
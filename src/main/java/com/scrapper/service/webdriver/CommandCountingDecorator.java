@@ -0,0 +1,175 @@
+package com.scrapper.service.webdriver;
+
+import com.scrapper.service.crawl.CrawlProfile;
+import com.scrapper.service.jfr.WebDriverCommandEvent;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Обгортка драйвера та всіх отриманих з нього елементів, через яку проходить кожна команда WebDriver.
+ * Для кожної команди: лічильник та час за типом і місцем виклику (WebDriverCommandStats),
+ * лічильник у профілі скрапінгу, JFR подія під час запису, перевірка скасування та бюджету команд.
+ */
+public class CommandCountingDecorator extends WebDriverDecorator<WebDriver> {
+
+    // Локальні виклики без запиту до chromedriver (повертають проміжні об'єкти API)
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "switchTo", "navigate",
+        "timeouts", "window", "logs", "getWrappedDriver", "getWrappedElement");
+
+    // Команди, що звільняють браузер, виконуються і після вичерпання бюджету чи скасування
+    private static final Set<String> RELEASE_COMMANDS = Set.of("quit", "close");
+
+    private static final int MAX_SCRIPT_LABEL = 80;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final WebDriverCommandStats stats = new WebDriverCommandStats();
+    private final long budget;
+    private final boolean trackCallSites;
+
+    // Команди, що виконуються (вкладені виклики можливі через делеговані об'єкти)
+    private final ThreadLocal<Deque<InFlight>> inFlight = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private record InFlight(long startedAt, String site, WebDriverCommandEvent event) {
+    }
+
+    /**
+     * @param budget         максимум команд за життя драйвера, 0 - без обмеження
+     * @param trackCallSites рахувати команди за місцем виклику (StackWalker на кожну команду)
+     */
+    public CommandCountingDecorator(long budget, boolean trackCallSites) {
+        super(WebDriver.class);
+        this.budget = budget;
+        this.trackCallSites = trackCallSites;
+    }
+
+    public WebDriverCommandStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void beforeCall(Decorated<?> target, Method method, Object[] args) {
+        super.beforeCall(target, method, args);
+        if (!isRemoteCommand(method)) {
+            return;
+        }
+        CrawlProfile profile = CrawlProfile.current();
+        boolean release = RELEASE_COMMANDS.contains(method.getName());
+        // Скасування перевіряється на кожній команді, тож спрацьовує на будь-якому етапі
+        if (profile != null && profile.isCancelRequested() && !release) {
+            throw new CrawlCancelledException(profile.getId(), method.getName());
+        }
+        String site = trackCallSites ? callerOf() : null;
+        if (budget > 0 && stats.total() >= budget && !release) {
+            throw new CommandBudgetExceededException(budget, method.getName(), site);
+        }
+        if (profile != null) {
+            profile.countWebDriverCommand();
+        }
+        WebDriverCommandEvent event = new WebDriverCommandEvent();
+        event.begin();
+        inFlight.get().push(new InFlight(System.nanoTime(), site, event));
+    }
+
+    @Override
+    public void afterCall(Decorated<?> target, Method method, Object[] args, Object result) {
+        if (isRemoteCommand(method)) {
+            complete(target.getOriginal(), method, args, resultSize(result), false);
+        }
+        super.afterCall(target, method, args, result);
+    }
+
+    @Override
+    public Object onError(Decorated<?> target, Method method, Object[] args,
+                          InvocationTargetException e) throws Throwable {
+        if (isRemoteCommand(method)) {
+            complete(target.getOriginal(), method, args, 0, true);
+        }
+        return super.onError(target, method, args, e);
+    }
+
+    private static boolean isRemoteCommand(Method method) {
+        return method.getDeclaringClass() != Object.class && !LOCAL_CALLS.contains(method.getName());
+    }
+
+    private void complete(Object target, Method method, Object[] args, int resultSize, boolean failed) {
+        InFlight call = inFlight.get().poll();
+        if (call == null) {
+            return;
+        }
+        stats.record(method.getName(), call.site(), System.nanoTime() - call.startedAt());
+
+        // Поля JFR події заповнюються тільки під час запису
+        WebDriverCommandEvent event = call.event();
+        event.end();
+        if (event.shouldCommit()) {
+            event.command = method.getName();
+            event.target = target instanceof WebElement ? "element" : "driver";
+            event.selector = selectorOf(args);
+            event.caller = call.site() != null ? call.site() : callerOf();
+            event.resultSize = resultSize;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    private static String selectorOf(Object[] args) {
+        if (args == null || args.length == 0) {
+            return null;
+        }
+        if (args[0] instanceof By by) {
+            return by.toString();
+        }
+        if (args[0] instanceof String text) {
+            // executeScript, getAttribute, get(url)
+            return text.length() > MAX_SCRIPT_LABEL ? text.substring(0, MAX_SCRIPT_LABEL) + "…" : text;
+        }
+        return null;
+    }
+
+    private static int resultSize(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof CharSequence text) {
+            return text.length();
+        }
+        return 1;
+    }
+
+    /**
+     * Перший кадр коду застосунку поза пакетом webdriver: Клас.метод:рядок
+     */
+    private static String callerOf() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith("com.scrapper.")
+                && !frame.getClassName().startsWith("com.scrapper.service.webdriver."))
+            .findFirst()
+            .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName() + ":"
+                + frame.getLineNumber())
+            .orElse("unknown"));
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested > 0 ? name.substring(0, nested) : name;
+    }
+}
@@ -0,0 +1,13 @@
+package com.scrapper.service.webdriver;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Скрапінг скасовано через actuator: наступна команда WebDriver цього скрапінгу не виконується
+ */
+public class CrawlCancelledException extends WebDriverException {
+
+    public CrawlCancelledException(long crawlId, String command) {
+        super("Crawl #" + crawlId + " cancelled before " + command);
+    }
+}
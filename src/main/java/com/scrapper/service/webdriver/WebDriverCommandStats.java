@@ -0,0 +1,82 @@
+package com.scrapper.service.webdriver;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Лічильники команд WebDriver одного браузера (одного скрапінгу): кількість та сумарний час
+ * за типом команди (findElements, getAttribute, getText, executeScript...) і за місцем виклику
+ */
+public class WebDriverCommandStats {
+
+    private final Map<String, Stat> byType = new HashMap<>();
+    private final Map<String, Stat> bySite = new HashMap<>();
+    private long total;
+    private long totalNanos;
+
+    /**
+     * Кількість та сумарний час команд однієї групи
+     */
+    public record Stat(long count, long nanos) {
+
+        Stat add(long commandNanos) {
+            return new Stat(count + 1, nanos + commandNanos);
+        }
+
+        public long averageMicros() {
+            return count == 0 ? 0 : nanos / count / 1_000;
+        }
+    }
+
+    public synchronized void record(String type, String site, long nanos) {
+        total++;
+        totalNanos += nanos;
+        byType.merge(type, new Stat(1, nanos), (stat, ignored) -> stat.add(nanos));
+        if (site != null) {
+            bySite.merge(site, new Stat(1, nanos), (stat, ignored) -> stat.add(nanos));
+        }
+    }
+
+    public synchronized long total() {
+        return total;
+    }
+
+    public synchronized long totalMillis() {
+        return totalNanos / 1_000_000;
+    }
+
+    public synchronized Map<String, Stat> byType() {
+        return sorted(byType, byType.size());
+    }
+
+    public synchronized Map<String, Stat> bySite(int limit) {
+        return sorted(bySite, limit);
+    }
+
+    /**
+     * Короткий звіт для логу: загальна кількість, типи та найдорожчі місця виклику
+     */
+    public synchronized String summary(int siteLimit) {
+        return total + " commands in " + totalMillis() + " ms; by type: " + format(byType())
+            + "; top call sites: " + format(bySite(siteLimit));
+    }
+
+    private static Map<String, Stat> sorted(Map<String, Stat> stats, int limit) {
+        return stats.entrySet().stream()
+            .sorted(Map.Entry.<String, Stat>comparingByValue(
+                Comparator.comparingLong(Stat::count)).reversed())
+            .limit(limit)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
+                (first, second) -> first, LinkedHashMap::new));
+    }
+
+    private static String format(Map<String, Stat> stats) {
+        return stats.entrySet().stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue().count() + " ("
+                + entry.getValue().averageMicros() / 1000.0 + " ms avg)")
+            .collect(Collectors.joining(", ", "{", "}"));
+    }
+}
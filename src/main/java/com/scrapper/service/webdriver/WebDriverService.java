@@ -1,11 +1,22 @@
 package com.scrapper.service.webdriver;
 
+import com.scrapper.service.crawl.CrawlMetrics;
+import com.scrapper.service.crawl.CrawlProfile;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Головний сервіс WebDriver який об'єднує всі інші сервіси
  */
@@ -16,13 +27,96 @@ public class WebDriverService {
 
     private final WebDriverManagerService webDriverManagerService;
     private final WebDriverConfigService webDriverConfigService;
+    private final CrawlMetrics crawlMetrics;
+
+    // Максимум команд WebDriver за один скрапінг (життя драйвера), 0 - без обмеження
+    @Value("${scraping.webdriver.command-budget:0}")
+    private long commandBudget;
+
+    @Value("${scraping.webdriver.track-call-sites:true}")
+    private boolean trackCallSites;
+
+    private final Map<WebDriver, WebDriverCommandStats> commandStats = new ConcurrentHashMap<>();
+
+    // PID процесу chromedriver кожного драйвера - щоб паралельні скрапінги не взяли той самий
+    private final Map<WebDriver, Long> driverPids = new ConcurrentHashMap<>();
 
     public WebDriver createWebDriver() {
-        return new ChromeDriver(webDriverConfigService.createChromeOptions());
+        Timer.Sample sample = crawlMetrics.start(CrawlMetrics.Stage.DRIVER_CREATION);
+        try {
+            // Всі команди драйвера та його елементів проходять через лічильник
+            CommandCountingDecorator decorator = new CommandCountingDecorator(commandBudget,
+                trackCallSites);
+            WebDriver driver = decorator.decorate(
+                new ChromeDriver(webDriverConfigService.createChromeOptions()));
+            commandStats.put(driver, decorator.getStats());
+            attachBrowserProcess(driver);
+            crawlMetrics.stop(sample, CrawlMetrics.Stage.DRIVER_CREATION, List.of(), "success");
+            crawlMetrics.browserOpened();
+            return driver;
+        } catch (RuntimeException e) {
+            crawlMetrics.stop(sample, CrawlMetrics.Stage.DRIVER_CREATION, List.of(), "failure");
+            throw e;
+        }
     }
 
     public void closeWebDriver(WebDriver driver) {
-        webDriverManagerService.closeWebDriver(driver);
+        if (driver != null) {
+            CrawlProfile profile = CrawlProfile.current();
+            if (profile != null) {
+                // Останній вимір RSS, поки процес браузера ще живий
+                profile.sampleChromeMemory();
+            }
+            webDriverManagerService.closeWebDriver(driver);
+            crawlMetrics.browserClosed();
+            driverPids.remove(driver);
+            if (profile != null) {
+                profile.detachBrowser();
+            }
+            WebDriverCommandStats stats = commandStats.remove(driver);
+            if (stats != null) {
+                crawlMetrics.recordWebDriverCommands(stats.byType());
+                log.info("📡 WebDriver round trips: {}", stats.summary(10));
+            }
+        }
+    }
+
+    /**
+     * Знаходить процес Chrome нового драйвера і прив'язує його до профілю скрапінгу:
+     * наймолодший ще не зайнятий chromedriver серед дочірніх процесів JVM, а в ньому - процес
+     * браузера. ChromeDriver не повертає PID, тому пошук за деревом процесів (без нього -1).
+     */
+    private void attachBrowserProcess(WebDriver driver) {
+        CrawlProfile profile = CrawlProfile.current();
+        if (profile == null) {
+            return;
+        }
+        Optional<ProcessHandle> chromedriver = ProcessHandle.current().children()
+            .filter(process -> process.info().command()
+                .map(command -> command.contains("chromedriver"))
+                .orElse(false))
+            .filter(process -> !driverPids.containsValue(process.pid()))
+            .max(Comparator.comparing(process -> process.info().startInstant().orElse(Instant.EPOCH)));
+        if (chromedriver.isEmpty()) {
+            log.debug("chromedriver process not found, browser PID unavailable");
+            return;
+        }
+        driverPids.put(driver, chromedriver.get().pid());
+        long browserPid = chromedriver.get().children()
+            .filter(process -> process.info().command()
+                .map(command -> command.contains("chrome"))
+                .orElse(false))
+            .findFirst()
+            .orElse(chromedriver.get())
+            .pid();
+        profile.attachBrowser(browserPid);
+    }
+
+    /**
+     * Лічильники команд драйвера, створеного цим сервісом (null для чужого драйвера)
+     */
+    public WebDriverCommandStats commandStats(WebDriver driver) {
+        return commandStats.get(driver);
     }
 }
 
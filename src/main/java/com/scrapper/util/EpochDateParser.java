@@ -0,0 +1,272 @@
+package com.scrapper.util;
+
+import java.time.LocalDate;
+
+/**
+ * Парсер дат одразу в Unix секунди (UTC) без проміжних рядків, regex та java.time об'єктів.
+ * Підтримує ISO дату ("2025-08-10"), дату-час з необов'язковими секундами, дробовою частиною
+ * та зсувом ("2025-08-10T14:30:00.123+02:00", "...Z", пробіл замість "T") і відносні рядки
+ * ("3 days ago", "Posted 30+ days ago", "an hour ago", "today", "yesterday", "just now").
+ * Дні від епохи беруться з таблиці, розрахованої один раз для TABLE_FIRST_YEAR..TABLE_LAST_YEAR.
+ */
+public final class EpochDateParser {
+
+    /**
+     * Результат для рядка, який не вдалося розпізнати
+     */
+    public static final long UNPARSED = Long.MIN_VALUE;
+
+    private static final int TABLE_FIRST_YEAR = 1970;
+    private static final int TABLE_LAST_YEAR = 2199;
+
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long SECONDS_PER_HOUR = 3_600;
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    // Дні від 1970-01-01 до першого січня року та до першого числа місяця (невисокосний рік)
+    private static final int[] YEAR_START_DAYS = new int[TABLE_LAST_YEAR - TABLE_FIRST_YEAR + 2];
+    private static final int[] DAYS_BEFORE_MONTH = {0, 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+    private static final int[] DAYS_IN_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    // Одиниці відносних дат: перші літери слова -> секунди (місяць = 30 днів, рік = 365 днів)
+    private static final String[] UNIT_NAMES = {"second", "sec", "minute", "min", "hour", "hr", "day",
+        "week", "month", "year"};
+    private static final long[] UNIT_SECONDS = {1, 1, SECONDS_PER_MINUTE, SECONDS_PER_MINUTE,
+        SECONDS_PER_HOUR, SECONDS_PER_HOUR, SECONDS_PER_DAY, 7 * SECONDS_PER_DAY,
+        30 * SECONDS_PER_DAY, 365 * SECONDS_PER_DAY};
+
+    static {
+        int days = 0;
+        for (int year = TABLE_FIRST_YEAR; year <= TABLE_LAST_YEAR + 1; year++) {
+            YEAR_START_DAYS[year - TABLE_FIRST_YEAR] = days;
+            days += isLeap(year) ? 366 : 365;
+        }
+    }
+
+    private EpochDateParser() {
+    }
+
+    /**
+     * Unix секунди (UTC) або UNPARSED. Відносні дати рахуються від поточного часу.
+     */
+    public static long parse(CharSequence text) {
+        return parse(text, System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * Unix секунди (UTC) або UNPARSED; відносні дати рахуються від nowEpochSeconds
+     */
+    public static long parse(CharSequence text, long nowEpochSeconds) {
+        if (text == null) {
+            return UNPARSED;
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return UNPARSED;
+        }
+        if (isDigit(text.charAt(start)) && end - start >= 10 && text.charAt(start + 4) == '-') {
+            return parseIso(text, start, end);
+        }
+        return parseRelative(text, start, end, nowEpochSeconds);
+    }
+
+    /**
+     * Дні від епохи для дати; дати поза таблицею рахуються через LocalDate
+     */
+    public static long epochDay(int year, int month, int day) {
+        if (year < TABLE_FIRST_YEAR || year > TABLE_LAST_YEAR) {
+            return LocalDate.of(year, month, day).toEpochDay();
+        }
+        int days = YEAR_START_DAYS[year - TABLE_FIRST_YEAR] + DAYS_BEFORE_MONTH[month] + day - 1;
+        return month > 2 && isLeap(year) ? days + 1 : days;
+    }
+
+    private static long parseIso(CharSequence text, int start, int end) {
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || text.charAt(start + 7) != '-'
+            || day > daysInMonth(year, month)) {
+            return UNPARSED;
+        }
+        long seconds = epochDay(year, month, day) * SECONDS_PER_DAY;
+        int pos = start + 10;
+        if (pos == end) {
+            return seconds;
+        }
+
+        // Час: 'T' або пробіл, HH:MM[:SS[.fraction]]
+        char separator = text.charAt(pos);
+        if ((separator != 'T' && separator != 't' && separator != ' ') || end - pos < 6
+            || text.charAt(pos + 3) != ':') {
+            return UNPARSED;
+        }
+        int hour = digits(text, pos + 1, 2);
+        int minute = digits(text, pos + 4, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return UNPARSED;
+        }
+        seconds += hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE;
+        pos += 6;
+        if (pos < end && text.charAt(pos) == ':') {
+            int second = digits(text, pos + 1, 2);
+            if (second < 0 || second > 59 || pos + 3 > end) {
+                return UNPARSED;
+            }
+            seconds += second;
+            pos += 3;
+            if (pos < end && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+                pos++;
+                int fractionStart = pos;
+                while (pos < end && isDigit(text.charAt(pos))) {
+                    pos++;
+                }
+                if (pos == fractionStart) {
+                    return UNPARSED;
+                }
+            }
+        }
+        if (pos == end) {
+            return seconds;
+        }
+
+        // Зсув: Z, +HH, +HHMM, +HH:MM
+        char sign = text.charAt(pos);
+        if ((sign == 'Z' || sign == 'z') && pos + 1 == end) {
+            return seconds;
+        }
+        if (sign != '+' && sign != '-') {
+            return UNPARSED;
+        }
+        int offsetHours = digits(text, pos + 1, 2);
+        int offsetMinutes = 0;
+        int remaining = end - pos - 3;
+        if (remaining == 3 && text.charAt(pos + 3) == ':') {
+            offsetMinutes = digits(text, pos + 4, 2);
+        } else if (remaining == 2) {
+            offsetMinutes = digits(text, pos + 3, 2);
+        } else if (remaining != 0) {
+            return UNPARSED;
+        }
+        if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+            return UNPARSED;
+        }
+        long offset = offsetHours * SECONDS_PER_HOUR + offsetMinutes * SECONDS_PER_MINUTE;
+        return sign == '+' ? seconds - offset : seconds + offset;
+    }
+
+    private static long parseRelative(CharSequence text, int start, int end, long now) {
+        int pos = start;
+        if (regionMatches(text, pos, end, "posted ")) {
+            pos += 7;
+        }
+        if (equalsIgnoreCase(text, pos, end, "just now") || equalsIgnoreCase(text, pos, end, "now")) {
+            return now;
+        }
+        if (equalsIgnoreCase(text, pos, end, "today")) {
+            return now - Math.floorMod(now, SECONDS_PER_DAY);
+        }
+        if (equalsIgnoreCase(text, pos, end, "yesterday")) {
+            return now - Math.floorMod(now, SECONDS_PER_DAY) - SECONDS_PER_DAY;
+        }
+
+        // Кількість: число (можливо з "+") або "a"/"an"
+        long amount;
+        if (pos < end && isDigit(text.charAt(pos))) {
+            amount = 0;
+            while (pos < end && isDigit(text.charAt(pos))) {
+                amount = amount * 10 + (text.charAt(pos++) - '0');
+                if (amount > 100_000) {
+                    return UNPARSED;
+                }
+            }
+            if (pos < end && text.charAt(pos) == '+') {
+                pos++;
+            }
+        } else if (regionMatches(text, pos, end, "an ")) {
+            amount = 1;
+            pos += 3;
+        } else if (regionMatches(text, pos, end, "a ")) {
+            amount = 1;
+            pos += 2;
+        } else {
+            return UNPARSED;
+        }
+        while (pos < end && text.charAt(pos) == ' ') {
+            pos++;
+        }
+
+        // Одиниця та "ago"
+        for (int unit = 0; unit < UNIT_NAMES.length; unit++) {
+            if (regionMatches(text, pos, end, UNIT_NAMES[unit])) {
+                int next = pos + UNIT_NAMES[unit].length();
+                if (next < end && lower(text.charAt(next)) == 's') {
+                    next++;
+                }
+                while (next < end && text.charAt(next) == ' ') {
+                    next++;
+                }
+                if (!equalsIgnoreCase(text, next, end, "ago")) {
+                    return UNPARSED;
+                }
+                return now - amount * UNIT_SECONDS[unit];
+            }
+        }
+        return UNPARSED;
+    }
+
+    private static boolean regionMatches(CharSequence text, int pos, int end, String lowercase) {
+        if (end - pos < lowercase.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowercase.length(); i++) {
+            if (lower(text.charAt(pos + i)) != lowercase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence text, int pos, int end, String lowercase) {
+        return end - pos == lowercase.length() && regionMatches(text, pos, end, lowercase);
+    }
+
+    // Число з count цифр або -1
+    private static int digits(CharSequence text, int pos, int count) {
+        if (pos + count > text.length()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return month == 2 && isLeap(year) ? 29 : DAYS_IN_MONTH[month];
+    }
+
+    private static boolean isLeap(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+    }
+}
@@ -0,0 +1,180 @@
+package com.scrapper.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Скомпільований матчер набору ключових слів (автомат Ахо-Корасік).
+ * Будується один раз і перевіряє текст за один прохід без урахування регістру та без
+ * створення проміжних рядків, замість toLowerCase + String.contains для кожного слова.
+ * Підходить для будь-якої класифікації тексту картки: валідація, seniority, remote/onsite.
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    private final List<String> keywords;
+    private final char[] alphabet;
+    private final int[] asciiClasses;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final boolean[] terminal;
+    private final int[][] outputs;
+
+    private KeywordMatcher(List<String> keywords) {
+        this.keywords = keywords;
+
+        // Стискаємо алфавіт до символів, що реально зустрічаються в ключових словах
+        Set<Character> chars = new TreeSet<>();
+        keywords.forEach(keyword -> keyword.chars().forEach(c -> chars.add((char) c)));
+        this.alphabet = new char[chars.size()];
+        int position = 0;
+        for (char c : chars) {
+            alphabet[position++] = c;
+        }
+        this.alphabetSize = alphabet.length + 1;
+        this.asciiClasses = new int[128];
+        for (int i = 0; i < alphabet.length; i++) {
+            if (alphabet[i] < 128) {
+                asciiClasses[alphabet[i]] = i + 1;
+            }
+        }
+
+        // Trie
+        List<int[]> gotoTable = new ArrayList<>();
+        List<BitSet> matches = new ArrayList<>();
+        gotoTable.add(newRow());
+        matches.add(new BitSet());
+        for (int k = 0; k < keywords.size(); k++) {
+            int state = ROOT;
+            for (char c : keywords.get(k).toCharArray()) {
+                int cls = classOf(c);
+                int next = gotoTable.get(state)[cls];
+                if (next <= 0) {
+                    next = gotoTable.size();
+                    gotoTable.get(state)[cls] = next;
+                    gotoTable.add(newRow());
+                    matches.add(new BitSet());
+                }
+                state = next;
+            }
+            matches.get(state).set(k);
+        }
+
+        // Посилання на невдачі та повна таблиця переходів (DFA)
+        int states = gotoTable.size();
+        this.transitions = new int[states * alphabetSize];
+        int[] failure = new int[states];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int cls = 0; cls < alphabetSize; cls++) {
+            int next = gotoTable.get(ROOT)[cls];
+            if (next > 0) {
+                failure[next] = ROOT;
+                transitions[cls] = next;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            matches.get(state).or(matches.get(failure[state]));
+            for (int cls = 0; cls < alphabetSize; cls++) {
+                int next = gotoTable.get(state)[cls];
+                if (next > 0) {
+                    failure[next] = transitions[failure[state] * alphabetSize + cls];
+                    transitions[state * alphabetSize + cls] = next;
+                    queue.add(next);
+                } else {
+                    transitions[state * alphabetSize + cls] =
+                        transitions[failure[state] * alphabetSize + cls];
+                }
+            }
+        }
+
+        this.terminal = new boolean[states];
+        this.outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            terminal[state] = !matches.get(state).isEmpty();
+            outputs[state] = matches.get(state).stream().toArray();
+        }
+    }
+
+    /**
+     * Будує матчер; слова нормалізуються до нижнього регістру, порожні та дублікати відкидаються
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.isBlank()) {
+                normalized.add(keyword.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return new KeywordMatcher(List.copyOf(normalized));
+    }
+
+    /**
+     * Чи містить текст хоча б одне ключове слово
+     */
+    public boolean containsAny(CharSequence text) {
+        return firstMatch(text) >= 0;
+    }
+
+    /**
+     * Індекс першого знайденого (за позицією в тексті) ключового слова або -1
+     */
+    public int firstMatch(CharSequence text) {
+        if (text == null || keywords.isEmpty()) {
+            return -1;
+        }
+        int state = ROOT;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            state = transitions[state * alphabetSize + classOf(Character.toLowerCase(text.charAt(i)))];
+            if (terminal[state]) {
+                return outputs[state][0];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Всі ключові слова, що зустрічаються в тексті
+     */
+    public BitSet matchAll(CharSequence text) {
+        BitSet found = new BitSet(keywords.size());
+        if (text == null) {
+            return found;
+        }
+        int state = ROOT;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            state = transitions[state * alphabetSize + classOf(Character.toLowerCase(text.charAt(i)))];
+            for (int keyword : outputs[state]) {
+                found.set(keyword);
+            }
+        }
+        return found;
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    private int classOf(char c) {
+        if (c < 128) {
+            return asciiClasses[c];
+        }
+        int index = Arrays.binarySearch(alphabet, c);
+        return index >= 0 ? index + 1 : 0;
+    }
+
+    private int[] newRow() {
+        return new int[alphabetSize];
+    }
+}
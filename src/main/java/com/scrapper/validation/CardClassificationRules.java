@@ -0,0 +1,83 @@
+package com.scrapper.validation;
+
+import com.scrapper.util.KeywordMatcher;
+
+import java.util.List;
+
+/**
+ * Правила, за якими елемент вважається реальною карткою вакансії.
+ * Одні й ті самі правила використовуються Java реалізацією (WebElement текст, Jsoup)
+ * та скриптом, що класифікує картки прямо в браузері.
+ * Списки ключових слів компілюються в KeywordMatcher один раз при створенні правил.
+ */
+public final class CardClassificationRules {
+
+    // Навігаційні елементи та фільтри
+    private static final List<String> NAVIGATION_KEYWORDS = List.of(
+        "search", "explore", "join", "my", "job alerts", "on-site", "remote",
+        "job function", "seniority", "salary", "industry", "company stage",
+        "more filters", "create job alert", "powered by", "showing", "jobs",
+        "companies", "talent network", "claim your profile"
+    );
+
+    // Інформація, характерна для вакансії
+    private static final List<String> JOB_KEYWORDS = List.of(
+        "engineer", "designer", "manager", "developer", "analyst", "specialist",
+        "coordinator", "director", "lead", "senior", "junior", "full-time",
+        "part-time", "remote", "onsite", "hybrid", "salary", "experience"
+    );
+
+    public static final int DEFAULT_MIN_TEXT_LENGTH = 50;
+    public static final String DEFAULT_JOB_LINK_SELECTOR =
+        "a[href*='/jobs/'], a[href*='/companies/']";
+
+    public static final CardClassificationRules DEFAULT = new CardClassificationRules(
+        NAVIGATION_KEYWORDS, JOB_KEYWORDS, DEFAULT_MIN_TEXT_LENGTH, DEFAULT_JOB_LINK_SELECTOR);
+
+    private final KeywordMatcher navigationMatcher;
+    private final KeywordMatcher jobMatcher;
+    private final int minTextLength;
+    private final String jobLinkSelector;
+
+    public CardClassificationRules(List<String> navigationKeywords, List<String> jobKeywords,
+                                   int minTextLength, String jobLinkSelector) {
+        this.navigationMatcher = KeywordMatcher.of(navigationKeywords);
+        this.jobMatcher = KeywordMatcher.of(jobKeywords);
+        this.minTextLength = minTextLength;
+        this.jobLinkSelector = jobLinkSelector;
+    }
+
+    /**
+     * Класифікує картку за її текстом та наявністю посилання на вакансію
+     */
+    public boolean isValidJobCardText(String text, boolean hasJobLink) {
+        if (text == null || !hasJobLink || text.length() < minTextLength) {
+            return false;
+        }
+        return !navigationMatcher.containsAny(text) && jobMatcher.containsAny(text);
+    }
+
+    public static List<String> defaultNavigationKeywords() {
+        return NAVIGATION_KEYWORDS;
+    }
+
+    public static List<String> defaultJobKeywords() {
+        return JOB_KEYWORDS;
+    }
+
+    public List<String> getNavigationKeywords() {
+        return navigationMatcher.keywords();
+    }
+
+    public List<String> getJobKeywords() {
+        return jobMatcher.keywords();
+    }
+
+    public int getMinTextLength() {
+        return minTextLength;
+    }
+
+    public String getJobLinkSelector() {
+        return jobLinkSelector;
+    }
+}
@@ -0,0 +1,21 @@
+package com.scrapper.validation;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Запит містить job functions, яких немає ні в JobFunction, ні в каталозі фільтрів сайту
+ */
+@Getter
+public class UnknownJobFunctionException extends IllegalArgumentException {
+
+    private final List<String> unknown;
+    private final List<String> available;
+
+    public UnknownJobFunctionException(List<String> unknown, List<String> available) {
+        super("Unknown job functions " + unknown + ", available: " + available);
+        this.unknown = unknown;
+        this.available = available;
+    }
+}
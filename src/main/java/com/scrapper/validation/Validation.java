@@ -1,6 +1,9 @@
 package com.scrapper.validation;
 
 import com.scrapper.model.Job;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.By;
 import java.util.List;
@@ -15,19 +18,102 @@ public final class Validation {
             NOT_BLANK.test(job.getOrganizationTitle()) &&
             NOT_BLANK.test(job.getLaborFunction()) &&
             job.getPostedDate() > 0; // ✅ ВИПРАВЛЕНО: Перевіряємо Unix Timestamp > 0 замість != null
+
+    /**
+     * Текст, який PostgreSQL прийме в text колонку (символ \u0000 відхиляється)
+     */
+    private static final Predicate<String> STORABLE_TEXT = value -> value == null || value.indexOf('\u0000') < 0;
+
+    /**
+     * Вакансію можна записати в jobs: заповнені NOT NULL колонки і немає тексту, який відхилить БД.
+     * Невідома дата публікації (Job.UNKNOWN_POSTED_DATE) допустима, на відміну від IS_VALID.
+     * Перевіряється до запису: помилка SQL перериває всю транзакцію пакета, а не одну вакансію.
+     */
+    public static final Predicate<Job> IS_PERSISTABLE = job ->
+        NOT_BLANK.test(job.getPositionName()) &&
+            NOT_BLANK.test(job.getJobPageUrl()) &&
+            job.getOrganizationUrl() != null &&
+            NOT_BLANK.test(job.getOrganizationTitle()) &&
+            NOT_BLANK.test(job.getLaborFunction()) &&
+            job.getAddress() != null &&
+            job.getDescription() != null &&
+            STORABLE_TEXT.test(job.getPositionName()) &&
+            STORABLE_TEXT.test(job.getOrganizationTitle()) &&
+            STORABLE_TEXT.test(job.getLogoUrl()) &&
+            STORABLE_TEXT.test(job.getAddress()) &&
+            STORABLE_TEXT.test(job.getDescription()) &&
+            job.getTags().stream().allMatch(STORABLE_TEXT) &&
+            job.getLocations().stream().allMatch(STORABLE_TEXT);
     
     // ✅ ДОДАНО: Методи валідації даних з ApplyUrlScraperServiceImpl
-    
+
     /**
-     * ✅ Фільтрує елементи, щоб знайти тільки реальні картки вакансій
+     * Скрипт, що класифікує всіх кандидатів в браузері за тими самими правилами, що й
+     * CardClassificationRules, і повертає тільки індекси валідних карток.
+     * Ключові слова компілюються в один регулярний вираз на виклик, тому текст сканується один раз.
+     */
+    private static final String CARD_CLASSIFIER_SCRIPT =
+        "const [elements, navigation, job, minLength, linkSelector] = arguments;"
+            + "const compile = words => words.length === 0 ? null : new RegExp(words"
+            + "  .map(word => word.replace(/[.*+?^${}()|[\\]\\\\]/g, '\\\\$&')).join('|'), 'i');"
+            + "const navigationPattern = compile(navigation);"
+            + "const jobPattern = compile(job);"
+            + "const valid = [];"
+            + "elements.forEach((element, index) => {"
+            + "  if (!element.querySelector(linkSelector)) { return; }"
+            + "  const text = element.innerText || '';"
+            + "  if (text.length < minLength) { return; }"
+            + "  if (navigationPattern && navigationPattern.test(text)) { return; }"
+            + "  if (jobPattern && jobPattern.test(text)) { valid.push(index); }"
+            + "});"
+            + "return valid;";
+
+    /**
+     * ✅ Фільтрує елементи, щоб знайти тільки реальні картки вакансій.
+     * Вся класифікація виконується одним викликом скрипта замість getText + findElements
+     * для кожного елемента; якщо скрипт не спрацював - перевірка по одному елементу.
+     */
+    public static List<WebElement> filterValidJobCards(WebDriver driver, List<WebElement> elements) {
+        return filterValidJobCards(driver, elements, CardClassificationRules.DEFAULT);
+    }
+
+    public static List<WebElement> filterValidJobCards(WebDriver driver, List<WebElement> elements,
+                                                       CardClassificationRules rules) {
+        if (elements.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(CARD_CLASSIFIER_SCRIPT,
+                elements, rules.getNavigationKeywords(), rules.getJobKeywords(),
+                rules.getMinTextLength(), rules.getJobLinkSelector());
+            if (result instanceof List<?> indices) {
+                List<WebElement> validCards = new ArrayList<>(indices.size());
+                for (Object index : indices) {
+                    validCards.add(elements.get(((Number) index).intValue()));
+                }
+                return validCards;
+            }
+        } catch (Exception e) {
+            // Падаємо назад на перевірку по одному елементу
+        }
+        return filterValidJobCards(elements, rules);
+    }
+
+    /**
+     * ✅ Фільтрує елементи, перевіряючи кожен окремо (кілька WebDriver викликів на елемент)
      */
     public static List<WebElement> filterValidJobCards(List<WebElement> elements) {
+        return filterValidJobCards(elements, CardClassificationRules.DEFAULT);
+    }
+
+    private static List<WebElement> filterValidJobCards(List<WebElement> elements,
+                                                        CardClassificationRules rules) {
         List<WebElement> validCards = new ArrayList<>();
         
         for (WebElement element : elements) {
             try {
                 // Перевіряємо, чи це реальна картка вакансії
-                if (isValidJobCard(element)) {
+                if (isValidJobCard(element, rules)) {
                     validCards.add(element);
                 }
             } catch (Exception e) {
@@ -42,63 +128,26 @@ public final class Validation {
      * ✅ Перевіряє, чи є елемент реальною карткою вакансії
      */
     public static boolean isValidJobCard(WebElement element) {
+        return isValidJobCard(element, CardClassificationRules.DEFAULT);
+    }
+
+    private static boolean isValidJobCard(WebElement element, CardClassificationRules rules) {
         try {
-            String text = element.getText().toLowerCase();
-            
-            // ✅ Фільтруємо навігаційні елементи та фільтри
-            String[] navigationKeywords = {
-                "search", "explore", "join", "my", "job alerts", "on-site", "remote", 
-                "job function", "seniority", "salary", "industry", "company stage", 
-                "more filters", "create job alert", "powered by", "showing", "jobs",
-                "companies", "talent network", "claim your profile"
-            };
-            
-            for (String keyword : navigationKeywords) {
-                if (text.contains(keyword.toLowerCase())) {
-                    return false; // Це навігаційний елемент
-                }
-            }
-            
+            String text = element.getText();
             // ✅ Перевіряємо, чи містить елемент посилання на вакансію
-            try {
-                List<WebElement> links = element.findElements(By.cssSelector("a[href*='/jobs/'], a[href*='/companies/']"));
-                if (links.isEmpty()) {
-                    return false; // Немає посилань на вакансії
-                }
-            } catch (Exception e) {
-                return false; // Помилка при пошуку посилань
-            }
-            
-            // ✅ Перевіряємо, чи містить елемент інформацію про вакансію
-            String[] jobKeywords = {
-                "engineer", "designer", "manager", "developer", "analyst", "specialist",
-                "coordinator", "director", "lead", "senior", "junior", "full-time",
-                "part-time", "remote", "onsite", "hybrid", "salary", "experience"
-            };
-            
-            boolean hasJobInfo = false;
-            for (String keyword : jobKeywords) {
-                if (text.contains(keyword.toLowerCase())) {
-                    hasJobInfo = true;
-                    break;
-                }
-            }
-            
-            if (!hasJobInfo) {
-                return false; // Немає інформації про вакансію
-            }
-            
-            // ✅ Перевіряємо розмір тексту (картка вакансії має бути достатньо великою)
-            if (text.length() < 50) {
-                return false; // Занадто короткий текст
-            }
-            
-            return true; // Це схоже на реальну картку вакансії
-            
+            boolean hasJobLink = !element.findElements(
+                By.cssSelector(rules.getJobLinkSelector())).isEmpty();
+            return rules.isValidJobCardText(text, hasJobLink);
         } catch (Exception e) {
             return false;
         }
     }
-    
 
+    /**
+     * ✅ Та сама перевірка для Jsoup (офлайн розбір збереженої сторінки)
+     */
+    public static boolean isValidJobCard(Element element, CardClassificationRules rules) {
+        return rules.isValidJobCardText(element.text(),
+            !element.select(rules.getJobLinkSelector()).isEmpty());
+    }
 }
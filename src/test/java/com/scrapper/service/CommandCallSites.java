@@ -0,0 +1,27 @@
+package com.scrapper.service;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * Виклики драйвера з коду поза пакетом webdriver - місця виклику для CommandCountingDecoratorTest
+ */
+public final class CommandCallSites {
+
+    private CommandCallSites() {
+    }
+
+    public static List<String> readCards(WebDriver driver) {
+        return driver.findElements(By.cssSelector("[data-testid=job-card]")).stream()
+            .map(WebElement::getText)
+            .toList();
+    }
+
+    public static Object scroll(WebDriver driver) {
+        return ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
+    }
+}
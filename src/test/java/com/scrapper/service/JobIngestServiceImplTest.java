@@ -0,0 +1,74 @@
+package com.scrapper.service;
+
+import com.scrapper.model.Job;
+import com.scrapper.repository.job.JobRepository;
+import com.scrapper.service.crawl.CrawlMetrics;
+import com.scrapper.util.EpochDateParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobIngestServiceImplTest {
+
+    private static final long STORED_DATE = 1_754_784_000L;
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobIngestServiceImpl ingest = new JobIngestServiceImpl(jobRepository,
+        new CrawlMetrics(new SimpleMeterRegistry()), mock(EntityManager.class));
+    private final JobCreationService jobCreationService = new JobCreationService();
+
+    @Test
+    void upsertKeepsStoredDateWhenReplayedDateIsUnparsed() {
+        Job stored = job("https://jobs.techstars.com/a", STORED_DATE);
+        when(jobRepository.findAllByJobPageUrlIn(anyCollection())).thenReturn(List.of(stored));
+
+        Job replayed = job("https://jobs.techstars.com/a", EpochDateParser.UNPARSED);
+        assertThat(replayed.getPostedDate()).isEqualTo(Job.UNKNOWN_POSTED_DATE);
+
+        assertThat(ingest.upsertJobs(List.of(replayed)).updated()).isEqualTo(1);
+        assertThat(stored.getPostedDate()).isEqualTo(STORED_DATE);
+        assertThat(stored.getPositionName()).isEqualTo("Designer");
+    }
+
+    @Test
+    void upsertOverwritesStoredDateWithParsedOne() {
+        Job stored = job("https://jobs.techstars.com/a", STORED_DATE);
+        when(jobRepository.findAllByJobPageUrlIn(anyCollection())).thenReturn(List.of(stored));
+
+        ingest.upsertJobs(List.of(job("https://jobs.techstars.com/a", STORED_DATE + 86_400)));
+
+        assertThat(stored.getPostedDate()).isEqualTo(STORED_DATE + 86_400);
+    }
+
+    @Test
+    void invalidJobIsSkippedWithoutAbortingTheBatch() {
+        Job invalid = job("https://jobs.techstars.com/b", STORED_DATE);
+        invalid.setLaborFunction(null);
+        Job binary = job("https://jobs.techstars.com/c", STORED_DATE);
+        binary.setDescription("broken\u0000text");
+        List<Job> batch = List.of(job("https://jobs.techstars.com/a", STORED_DATE), invalid, binary,
+            job("https://jobs.techstars.com/d", Job.UNKNOWN_POSTED_DATE));
+
+        assertThat(ingest.saveJobs(batch)).isEqualTo(2);
+
+        verify(jobRepository, times(2)).save(any(Job.class));
+        verify(jobRepository, never()).save(invalid);
+        verify(jobRepository, never()).save(binary);
+    }
+
+    private Job job(String url, long postedAt) {
+        return jobCreationService.createJobWithAllData(url, "Designer", "Acme", null, "Kyiv",
+            List.of("ui"), postedAt, "Design", "Job description");
+    }
+}
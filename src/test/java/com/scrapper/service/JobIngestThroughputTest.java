@@ -0,0 +1,196 @@
+package com.scrapper.service;
+
+import com.scrapper.model.Job;
+import com.scrapper.service.crawl.CrawlProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Пропускна здатність та кількість SQL запитів JobIngestService на Postgres у Testcontainers
+ * (схема з Liquibase changelog). Межі запитів задані на вакансію, на тег/локацію та на пакет
+ * з CHUNK_SIZE вакансій, тож зайвий запит на кожну вакансію (N+1) валить збірку.
+ * Пакет 100k має тег slow і за замовчуванням не запускається: mvn test -DexcludedGroups= -Dgroups=slow
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+    "scraping.scheduler.enabled=false",
+    "http.headers.user-agent=test"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class JobIngestThroughputTest {
+
+    private static final double MIN_JOBS_PER_SECOND = 100;
+    private static final double STATEMENT_TOLERANCE = 0.1;
+    private static final String[] TAGS = {"Remote", "Full-time", "Senior", "Python", "Java", "React",
+        "Series A", "Visa sponsorship", "Equity"};
+    private static final String[] LOCATIONS = {"Remote", "New York, NY, USA", "London, UK",
+        "Berlin, Germany", "San Francisco, CA, USA", "Warsaw, Poland"};
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    /**
+     * Межа = jobs * perJob + collectionRows * perCollectionRow + chunks * perChunk
+     */
+    private enum Scenario {
+        /**
+         * saveJobs у порожню таблицю: insert вакансії та по insert на тег і локацію,
+         * перевірка існування - один запит на пакет
+         */
+        INSERT(1, 1, 1),
+        /**
+         * Повторний saveJobs того ж пакета: тільки перевірка існування
+         */
+        RESAVE(0, 0, 1),
+        /**
+         * upsertJobs зміненого пакета: update вакансії, delete та insert її тегів і локацій;
+         * select вакансій та колекцій - по запиту на пакет
+         */
+        UPSERT(3, 1, 3);
+
+        private final double perJob;
+        private final double perCollectionRow;
+        private final double perChunk;
+
+        Scenario(double perJob, double perCollectionRow, double perChunk) {
+            this.perJob = perJob;
+            this.perCollectionRow = perCollectionRow;
+            this.perChunk = perChunk;
+        }
+
+        long maxStatements(int jobs, long collectionRows) {
+            int chunks = (jobs + JobIngestService.CHUNK_SIZE - 1) / JobIngestService.CHUNK_SIZE;
+            return (long) Math.ceil((jobs * perJob + collectionRows * perCollectionRow + chunks * perChunk)
+                * (1 + STATEMENT_TOLERANCE));
+        }
+    }
+
+    @Autowired
+    private JobIngestService jobIngestService;
+
+    @Autowired
+    private JobCreationService jobCreationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void emptyTables() {
+        jdbcTemplate.execute("TRUNCATE TABLE job_tags, job_locations, jobs RESTART IDENTITY CASCADE");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000})
+    void ingestStaysWithinStatementCeilings(int size) {
+        ingestAllScenarios(size);
+    }
+
+    @Test
+    @Tag("slow")
+    void ingestOf100kJobsStaysWithinStatementCeilings() {
+        ingestAllScenarios(100_000);
+    }
+
+    private void ingestAllScenarios(int size) {
+        List<Job> batch = jobs(size);
+        measure(Scenario.INSERT, batch, () -> assertThat(jobIngestService.saveJobs(batch)).isEqualTo(size));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM jobs", Long.class)).isEqualTo(size);
+
+        List<Job> again = jobs(size);
+        measure(Scenario.RESAVE, again, () -> assertThat(jobIngestService.saveJobs(again)).isZero());
+
+        List<Job> changed = jobs(size);
+        for (Job job : changed) {
+            job.setPositionName(job.getPositionName() + " (updated)");
+            job.getTags().add("Visa sponsorship");
+        }
+        measure(Scenario.UPSERT, changed, () -> assertThat(jobIngestService.upsertJobs(changed).updated())
+            .isEqualTo(size));
+    }
+
+    private void measure(Scenario scenario, List<Job> jobs, Runnable ingest) {
+        long collectionRows = scenario == Scenario.RESAVE ? 0 : jobs.stream()
+            .mapToLong(job -> job.getTags().size() + job.getLocations().size())
+            .sum();
+        CrawlProfile profile = CrawlProfile.start("ingest-test", List.of(scenario.name()));
+        long startedAt = System.nanoTime();
+        try {
+            ingest.run();
+        } finally {
+            profile.end();
+        }
+        double seconds = Math.max(1, System.nanoTime() - startedAt) / 1e9;
+        long ceiling = scenario.maxStatements(jobs.size(), collectionRows);
+
+        assertThat(profile.getDbStatements())
+            .as("%s of %d jobs: SQL statements (%.2f per job)", scenario, jobs.size(),
+                (double) profile.getDbStatements() / jobs.size())
+            .isLessThanOrEqualTo(ceiling);
+        assertThat(jobs.size() / seconds)
+            .as("%s of %d jobs: jobs per second", scenario, jobs.size())
+            .isGreaterThanOrEqualTo(MIN_JOBS_PER_SECOND);
+    }
+
+    /**
+     * Детерміновані вакансії: 1-4 теги, третина має 2-3 локації
+     */
+    private List<Job> jobs(int size) {
+        Random random = new Random(size);
+        long postedAt = LocalDateTime.of(2026, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        List<Job> jobs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int company = random.nextInt(Math.max(1, size / 20));
+            List<String> tags = new ArrayList<>();
+            int tagCount = 1 + random.nextInt(4);
+            for (int t = 0; t < tagCount; t++) {
+                tags.add(TAGS[(i + t) % TAGS.length]);
+            }
+            Job job = jobCreationService.createJobWithAllData(
+                "https://jobs.techstars.com/companies/company-" + company + "/jobs/" + i,
+                "Engineer " + i,
+                "Company " + company,
+                null,
+                LOCATIONS[random.nextInt(LOCATIONS.length)],
+                tags,
+                postedAt - i * 3_600L,
+                "Software Engineering",
+                "Description " + i);
+            if (random.nextInt(3) == 0) {
+                int extra = 1 + random.nextInt(2);
+                for (int l = 0; l < extra; l++) {
+                    job.addLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+                }
+            }
+            jobs.add(job);
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,76 @@
+package com.scrapper.service.archive;
+
+import com.scrapper.service.crawl.CrawlMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageArchiveServiceTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-10T12:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private PageArchiveService archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new PageArchiveService(new CrawlMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(archive, "enabled", true);
+        ReflectionTestUtils.setField(archive, "directory", directory.toString());
+        ReflectionTestUtils.setField(archive, "maxSegmentMb", 64L);
+        archive.init();
+    }
+
+    @Test
+    void overlappingCrawlsKeepIndexSortedForSince() throws Exception {
+        // Короткий скрапінг 2 завершився раніше за довгий скрапінг 1, XHR якого старші
+        archive.append(List.of(xhr(2, 20), page(2, 30)));
+        archive.append(List.of(xhr(1, 5), xhr(1, 40), page(1, 50)));
+
+        PageArchiveIndex index = archive.index();
+        for (int i = 1; i < index.size(); i++) {
+            assertThat(index.get(i).capturedAtMillis()).isGreaterThanOrEqualTo(index.get(i - 1).capturedAtMillis());
+        }
+        assertThat(index.since(T0.plusSeconds(25).toEpochMilli(), ArchiveRecord.Type.PAGE))
+            .extracting(PageArchiveIndex.Entry::crawlSeq)
+            .containsExactly(2, 1);
+        assertThat(index.since(T0.plusSeconds(35).toEpochMilli(), ArchiveRecord.Type.XHR))
+            .extracting(PageArchiveIndex.Entry::crawlSeq)
+            .containsExactly(1);
+        // Справжній час запису зберігається в WARC-Date
+        assertThat(archive.read(index.get(3)).capturedAt()).isEqualTo(T0.plusSeconds(40));
+    }
+
+    @Test
+    void detachedCardsGoBeforeBodyEnd() {
+        String page = PageArchiveService.withDetachedCards("<html><body><main></main></body></html>",
+            List.of("<div class=\"job-card\">a</div>", "<div class=\"job-card\">b</div>"));
+
+        assertThat(page).isEqualTo("<html><body><main></main><div data-archive-detached=\"2\">"
+            + "<div class=\"job-card\">a</div><div class=\"job-card\">b</div></div></body></html>");
+    }
+
+    private static ArchiveRecord page(int crawlSeq, long seconds) {
+        return record(ArchiveRecord.Type.PAGE, crawlSeq, seconds, "text/html");
+    }
+
+    private static ArchiveRecord xhr(int crawlSeq, long seconds) {
+        return record(ArchiveRecord.Type.XHR, crawlSeq, seconds, "application/json");
+    }
+
+    private static ArchiveRecord record(ArchiveRecord.Type type, int crawlSeq, long seconds, String contentType) {
+        return new ArchiveRecord(type, "https://jobs.techstars.com/jobs", T0.plusSeconds(seconds),
+            List.of("Design"), crawlSeq, contentType, "{}".getBytes(StandardCharsets.UTF_8));
+    }
+}
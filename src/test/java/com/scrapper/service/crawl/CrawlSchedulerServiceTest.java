@@ -0,0 +1,135 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.model.CrawlScheduleState;
+import com.scrapper.model.Job;
+import com.scrapper.model.JobFunction;
+import com.scrapper.repository.crawl.CrawlScheduleStateRepository;
+import com.scrapper.service.ApplyUrlScraperService;
+import com.scrapper.service.JobIngestService;
+import com.scrapper.service.ScrapeFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CrawlSchedulerServiceTest {
+
+    private static final long HOUR = 3600;
+
+    private final CrawlScheduleStateRepository repository = mock(CrawlScheduleStateRepository.class);
+    private final ApplyUrlScraperService scraper = mock(ApplyUrlScraperService.class);
+    private final JobIngestService ingest = mock(JobIngestService.class);
+    private final CrawlRunService crawlRunService = mock(CrawlRunService.class);
+    private final CrawlSchedulerService scheduler = new CrawlSchedulerService(repository, scraper, ingest,
+        crawlRunService);
+
+    private CrawlScheduleState design;
+    private CrawlProfile profile;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "initialIntervalMinutes", 360L);
+        ReflectionTestUtils.setField(scheduler, "minIntervalMinutes", 60L);
+        ReflectionTestUtils.setField(scheduler, "freshnessSlaMinutes", 1440L);
+        ReflectionTestUtils.setField(scheduler, "targetNewJobsPerCrawl", 10.0);
+        ReflectionTestUtils.setField(scheduler, "rateSmoothing", 0.3);
+        ReflectionTestUtils.setField(scheduler, "jitterRatio", 0.0);
+
+        now = Instant.now().getEpochSecond();
+        // Тільки DESIGN пора скрапити, решта функцій запланована на пізніше
+        List<CrawlScheduleState> states = Arrays.stream(JobFunction.values())
+            .map(function -> CrawlScheduleState.builder()
+                .jobFunction(function)
+                .lastRunAt(now - 2 * HOUR)
+                .nextRunAt(function == JobFunction.DESIGN ? now - 1 : now + 10 * HOUR)
+                .intervalSeconds(2 * HOUR)
+                .newJobsPerHour(5.0)
+                .build())
+            .toList();
+        design = states.get(JobFunction.DESIGN.ordinal());
+        when(repository.findAll()).thenReturn(states);
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        profile = CrawlProfile.start("test", List.of());
+        when(crawlRunService.begin(any(), anyList())).thenReturn(profile);
+    }
+
+    @AfterEach
+    void endProfile() {
+        profile.end();
+    }
+
+    @Test
+    void failedCrawlIsRecordedAsFailureAndKeepsRate() {
+        when(scraper.scrapeAndCreateJobs(anyList()))
+            .thenThrow(new ScrapeFailedException("chromedriver died"));
+
+        scheduler.runNextDueCrawl();
+
+        assertThat(design.getLastOutcome()).startsWith("failed");
+        assertThat(design.getNewJobsPerHour()).isEqualTo(5.0);
+        assertThat(design.getIntervalSeconds()).isEqualTo(2 * HOUR);
+        assertThat(design.getLastRunAt()).isEqualTo(now - 2 * HOUR);
+        assertThat(design.getTotalRuns()).isEqualTo(1);
+        // Швидкий повтор через мінімальний інтервал, а не розтягнутий до SLA
+        assertThat(design.getNextRunAt()).isBetween(now + HOUR - 5, now + HOUR + 5);
+        verify(crawlRunService).finish(any(), eq("failed"), anyInt(), anyInt());
+    }
+
+    @Test
+    void crawlAfterFailureMeasuresRateSinceLastSuccess() {
+        when(scraper.scrapeAndCreateJobs(anyList()))
+            .thenThrow(new ScrapeFailedException("chromedriver died"))
+            .thenReturn(List.of());
+        scheduler.runNextDueCrawl();
+        design.setNextRunAt(now - 1);
+        ReflectionTestUtils.setField(scheduler, "rateSmoothing", 1.0);
+        when(ingest.saveJobs(anyList())).thenReturn(4);
+
+        scheduler.runNextDueCrawl();
+
+        // 4 нові вакансії за 2 години від останнього успіху, а не за хвилини від збою
+        assertThat(design.getNewJobsPerHour()).isCloseTo(2.0, within(0.01));
+        assertThat(design.getLastRunAt()).isGreaterThanOrEqualTo(now);
+    }
+
+    @Test
+    void emptyCrawlLowersRate() {
+        when(scraper.scrapeAndCreateJobs(anyList())).thenReturn(List.of());
+
+        scheduler.runNextDueCrawl();
+
+        assertThat(design.getLastOutcome()).isEqualTo("ok");
+        assertThat(design.getNewJobsPerHour()).isLessThan(5.0);
+        verify(crawlRunService).finish(any(), eq("success"), eq(0), eq(0));
+    }
+
+    @Test
+    void unresolvedJobsAreSavedWithoutCountingTowardsRate() {
+        Job designJob = Job.builder().jobPageUrl("/jobs/design").laborFunction("Design").build();
+        Job unresolved = Job.builder().jobPageUrl("/jobs/unknown")
+            .laborFunction(JobFunctionPartitioner.UNRESOLVED).build();
+        when(scraper.scrapeAndCreateJobs(anyList())).thenReturn(List.of(designJob, unresolved));
+        when(ingest.saveJobs(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        scheduler.runNextDueCrawl();
+
+        verify(ingest).saveJobs(List.of(unresolved));
+        assertThat(design.getLastNewJobs()).isEqualTo(1);
+        verify(crawlRunService).finish(any(), eq("success"), eq(2), eq(2));
+    }
+}
@@ -0,0 +1,76 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.model.JobFunctionOption;
+import com.scrapper.repository.crawl.JobFunctionOptionRepository;
+import com.scrapper.validation.UnknownJobFunctionException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobFunctionCatalogServiceTest {
+
+    private final JobFunctionOptionRepository repository = mock(JobFunctionOptionRepository.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void catalogSurvivesRestart() {
+        JobFunctionCatalogService before = catalogService();
+        before.update(List.of(
+            new JobFunctionCatalogService.FilterOption("Design", "job-function-3"),
+            new JobFunctionCatalogService.FilterOption("Data Science", "job-function-12")));
+        ArgumentCaptor<Iterable<JobFunctionOption>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository).saveAll(saved.capture());
+        List<JobFunctionOption> rows = new ArrayList<>();
+        saved.getValue().forEach(rows::add);
+
+        // Новий екземпляр - як після перезапуску: каталог завантажується з БД при першому зверненні
+        when(repository.findAll()).thenReturn(rows);
+        JobFunctionCatalogService after = catalogService();
+
+        assertThat(after.isFresh()).isTrue();
+        assertThat(after.optionId("Design")).contains("job-function-3");
+        assertThat(after.normalize(List.of("data science"))).containsExactly("Data Science");
+    }
+
+    @Test
+    void emptyCatalogAcceptsOnlyKnownJobFunctions() {
+        when(repository.findAll()).thenReturn(List.of());
+        JobFunctionCatalogService catalog = catalogService();
+
+        assertThat(catalog.isFresh()).isFalse();
+        assertThat(catalog.optionId("Design")).isEmpty();
+        assertThat(catalog.normalize(List.of("design"))).containsExactly("Design");
+        assertThatThrownBy(() -> catalog.normalize(List.of("Data Science")))
+            .isInstanceOf(UnknownJobFunctionException.class);
+    }
+
+    @Test
+    void staleStoredCatalogIsNotUsedForNormalization() {
+        when(repository.findAll()).thenReturn(List.of(JobFunctionOption.builder()
+            .label("Data Science")
+            .optionId("job-function-12")
+            .refreshedAt(Instant.now().minusSeconds(2 * 86_400).getEpochSecond())
+            .build()));
+        JobFunctionCatalogService catalog = catalogService();
+
+        assertThat(catalog.isFresh()).isFalse();
+        assertThatThrownBy(() -> catalog.normalize(List.of("Data Science")))
+            .isInstanceOf(UnknownJobFunctionException.class);
+    }
+
+    private JobFunctionCatalogService catalogService() {
+        JobFunctionCatalogService catalog = new JobFunctionCatalogService(repository);
+        ReflectionTestUtils.setField(catalog, "ttlMinutes", 1440L);
+        return catalog;
+    }
+}
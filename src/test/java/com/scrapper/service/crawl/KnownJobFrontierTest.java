@@ -0,0 +1,66 @@
+package com.scrapper.service.crawl;
+
+import com.scrapper.service.PageInteractionService.LoadedCard;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KnownJobFrontierTest {
+
+    private static final long WATERMARK = epoch("2026-03-10");
+
+    private final KnownJobFrontier frontier = new KnownJobFrontier(
+        urls -> urls.stream().filter(Set.of("/jobs/stored-1", "/jobs/stored-2")::contains).toList(),
+        KnownJobFrontierTest::epoch, WATERMARK, 3);
+
+    @Test
+    void onlyStoredUrlsSkipExtraction() {
+        frontier.observe(List.of(
+            card(0, "/jobs/new", "2026-03-12"),
+            card(1, "/jobs/stored-1", "2026-03-11"),
+            card(2, "/jobs/missed-earlier", "2026-03-01")));
+
+        assertThat(frontier.isKnown("/jobs/stored-1")).isTrue();
+        assertThat(frontier.isKnown("/jobs/new")).isFalse();
+        // Старша за watermark, але в БД її немає - має бути екстрагована
+        assertThat(frontier.isKnown("/jobs/missed-earlier")).isFalse();
+    }
+
+    @Test
+    void olderThanWatermarkStillStopsScrolling() {
+        boolean reached = frontier.observe(List.of(
+            card(0, "/jobs/new", "2026-03-12"),
+            card(1, "/jobs/stored-1", "2026-03-11"),
+            card(2, "/jobs/back-dated", "2026-02-20"),
+            card(3, "/jobs/stored-2", "2026-02-19")));
+
+        assertThat(reached).isTrue();
+        assertThat(frontier.getNewCards()).isEqualTo(1);
+        assertThat(frontier.isKnown("/jobs/back-dated")).isFalse();
+    }
+
+    @Test
+    void newCardResetsKnownRun() {
+        boolean reached = frontier.observe(List.of(
+            card(0, "/jobs/stored-1", "2026-03-11"),
+            card(1, "/jobs/stored-2", "2026-03-11"),
+            card(2, "/jobs/new", "2026-03-12"),
+            card(3, "/jobs/old", "2026-01-01")));
+
+        assertThat(reached).isFalse();
+        assertThat(frontier.getConsecutiveKnown()).isEqualTo(1);
+    }
+
+    private static LoadedCard card(int index, String url, String datePosted) {
+        return new LoadedCard(null, index, url, datePosted);
+    }
+
+    private static long epoch(String date) {
+        return LocalDate.parse(date).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,35 @@
+package com.scrapper.service.crawl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScrollPacingControllerTest {
+
+    @Test
+    void rejectsSettingsThatNeverConfirmStall() {
+        assertThatThrownBy(() -> new ScrollPacingController(true, 1000, 500, 10000, 250, 500, 1.0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("backoff factor");
+        assertThatThrownBy(() -> new ScrollPacingController(true, 1000, 0, 10000, 250, 500, 2.0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("min delay");
+        // Фіксований режим паузу не змінює
+        new ScrollPacingController(false, 1000, 0, 10000, 250, 500, 1.0);
+    }
+
+    @Test
+    void emptyFeedIsConfirmedOnceDelayGrowsBackToBaseline() {
+        ScrollPacingController pacing = new ScrollPacingController(true, 1000, 500, 10000, 250, 500, 2.0);
+
+        // Стрічка встигала - пауза впала нижче базової
+        pacing.awaitNewCards(() -> 20, 10, millis -> { });
+        assertThat(pacing.getCurrentDelay()).isEqualTo(500);
+
+        pacing.awaitNewCards(() -> 20, 20, millis -> { });
+        assertThat(pacing.isConfirmedStall()).isFalse();
+        pacing.awaitNewCards(() -> 20, 20, millis -> { });
+        assertThat(pacing.isConfirmedStall()).isTrue();
+    }
+}
@@ -0,0 +1,114 @@
+package com.scrapper.service.webdriver;
+
+import com.scrapper.service.CommandCallSites;
+import com.scrapper.service.crawl.CrawlProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class CommandCountingDecoratorTest {
+
+    private final WebDriver original = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+
+    @BeforeEach
+    void setUp() {
+        WebElement first = mock(WebElement.class);
+        WebElement second = mock(WebElement.class);
+        when(first.getText()).thenReturn("Designer");
+        when(second.getText()).thenReturn("Engineer");
+        when(original.findElements(any(By.class))).thenReturn(List.of(first, second));
+    }
+
+    @Test
+    void countsDriverAndElementCommandsByTypeAndCallSite() {
+        CommandCountingDecorator decorator = new CommandCountingDecorator(0, true);
+        WebDriver driver = decorator.decorate(original);
+
+        assertThat(CommandCallSites.readCards(driver)).containsExactly("Designer", "Engineer");
+        CommandCallSites.scroll(driver);
+        // manage() - локальний виклик без запиту до chromedriver
+        driver.manage();
+
+        WebDriverCommandStats stats = decorator.getStats();
+        assertThat(stats.total()).isEqualTo(4);
+        assertThat(stats.byType()).containsOnlyKeys("findElements", "getText", "executeScript");
+        assertThat(stats.byType().get("findElements").count()).isEqualTo(1);
+        assertThat(stats.byType().get("getText").count()).isEqualTo(2);
+        assertThat(stats.byType().get("executeScript").count()).isEqualTo(1);
+
+        // Місце виклику - рядок: findElements та getText у readCards рахуються окремо
+        assertThat(stats.bySite(10).entrySet())
+            .extracting(site -> site.getKey().replaceAll(":\\d+$", ""), site -> site.getValue().count())
+            .containsExactlyInAnyOrder(
+                tuple("CommandCallSites.readCards", 2L),
+                tuple("CommandCallSites.readCards", 1L),
+                tuple("CommandCallSites.scroll", 1L));
+    }
+
+    @Test
+    void callSitesAreNotTrackedWhenDisabled() {
+        CommandCountingDecorator decorator = new CommandCountingDecorator(0, false);
+
+        CommandCallSites.readCards(decorator.decorate(original));
+
+        assertThat(decorator.getStats().total()).isEqualTo(3);
+        assertThat(decorator.getStats().bySite(10)).isEmpty();
+    }
+
+    @Test
+    void exceedingBudgetThrowsButQuitAndCloseStillRun() {
+        CommandCountingDecorator decorator = new CommandCountingDecorator(3, true);
+        WebDriver driver = decorator.decorate(original);
+
+        CommandCallSites.readCards(driver);
+
+        assertThatThrownBy(() -> CommandCallSites.scroll(driver))
+            .isInstanceOf(CommandBudgetExceededException.class)
+            .hasMessageContaining("budget of 3 exceeded by executeScript at CommandCallSites.scroll:");
+        verify((JavascriptExecutor) original, never()).executeScript(anyString());
+
+        driver.close();
+        driver.quit();
+        verify(original).close();
+        verify(original).quit();
+        assertThat(decorator.getStats().byType()).containsKeys("close", "quit");
+    }
+
+    @Test
+    void cancelledCrawlStopsAtNextCommandButStillQuits() {
+        CommandCountingDecorator decorator = new CommandCountingDecorator(0, true);
+        WebDriver driver = decorator.decorate(original);
+        CrawlProfile profile = CrawlProfile.start("test", List.of("Design"));
+        try {
+            CommandCallSites.scroll(driver);
+            profile.requestCancel();
+
+            assertThatThrownBy(() -> CommandCallSites.readCards(driver))
+                .isInstanceOf(CrawlCancelledException.class)
+                .hasMessageContaining("cancelled before findElements");
+            verify(original, never()).findElements(any(By.class));
+
+            driver.quit();
+            verify(original).quit();
+            assertThat(profile.getWebDriverCommands()).isEqualTo(2);
+        } finally {
+            profile.end();
+        }
+    }
+}
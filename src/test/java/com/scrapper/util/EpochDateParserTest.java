@@ -0,0 +1,73 @@
+package com.scrapper.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Корпус fixtures/dates.tsv (спільний з DateParsingBenchmark): високосні дні, межі таблиці
+ * TABLE_FIRST_YEAR..TABLE_LAST_YEAR, зсуви +HH/+HHMM/+HH:MM/Z, дробові секунди, відносні
+ * дати та некоректні рядки, які мають давати UNPARSED
+ */
+class EpochDateParserTest {
+
+    private static final String CORPUS = "/fixtures/dates.tsv";
+
+    /**
+     * "Зараз" для відносних дат корпусу
+     */
+    private static final long CORPUS_NOW = Instant.parse("2025-08-15T12:00:00Z").getEpochSecond();
+
+    @ParameterizedTest(name = "[{index}] \"{0}\" -> {1}")
+    @MethodSource("corpus")
+    void parsesCorpusLine(String input, String expected) {
+        long expectedSeconds = expected.equals("-")
+            ? EpochDateParser.UNPARSED
+            : Instant.parse(expected).getEpochSecond();
+
+        assertThat(EpochDateParser.parse(input, CORPUS_NOW)).isEqualTo(expectedSeconds);
+    }
+
+    @Test
+    void epochDayMatchesLocalDateAcrossTableEdges() {
+        LocalDate date = LocalDate.of(1968, 1, 1);
+        LocalDate last = LocalDate.of(2201, 12, 31);
+        while (!date.isAfter(last)) {
+            assertThat(EpochDateParser.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()))
+                .as("%s", date)
+                .isEqualTo(date.toEpochDay());
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test
+    void nullIsUnparsed() {
+        assertThat(EpochDateParser.parse(null, CORPUS_NOW)).isEqualTo(EpochDateParser.UNPARSED);
+    }
+
+    static Stream<Arguments> corpus() throws IOException {
+        String text;
+        try (InputStream input = EpochDateParserTest.class.getResourceAsStream(CORPUS)) {
+            assertThat(input).as("date corpus %s on classpath", CORPUS).isNotNull();
+            text = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        return Arrays.stream(text.split("\n"))
+            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+            .map(line -> {
+                int tab = line.lastIndexOf('\t');
+                assertThat(tab).as("malformed corpus line '%s'", line).isNotNegative();
+                return Arguments.of(line.substring(0, tab), line.substring(tab + 1).trim());
+            });
+    }
+}